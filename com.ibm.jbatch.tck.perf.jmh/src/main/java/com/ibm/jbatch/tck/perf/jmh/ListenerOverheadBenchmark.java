@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf.jmh;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.jbatch.tck.perf.BenchmarkSupport;
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Per-item cost of a chunk step (<code>perf_listeners_&lt;n&gt;</code>) with 0, 1, 5 or 20 of the TCK's listeners registered:
+ * <code>myItemReadListenerImpl</code>, <code>myItemProcessListenerImpl</code>, <code>myItemWriteListenerImpl</code>,
+ * <code>myChunkListener</code> and <code>myUniversalListener</code>, repeated in that order.
+ * <p>
+ * Each operation is one item of a job run in-process against the configured SE runtime; the score includes job
+ * startup and the wait for the job to end, spread over {@value #ITEMS} items.  The marginal per-item cost of the
+ * listeners is the difference between the scores for a given listener count and for 0 listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class ListenerOverheadBenchmark {
+
+    static final int ITEMS = 10000;
+
+    @Param({ "0", "1", "5", "20" })
+    int listeners;
+
+    @Param({ "100" })
+    int commitInterval;
+
+    private JobOperatorBridge jobOp;
+    private Properties jobParams;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkSupport.loadConfiguration();
+        jobOp = new JobOperatorBridge();
+        jobParams = new Properties();
+        jobParams.setProperty("perf.items", Integer.toString(ITEMS));
+        jobParams.setProperty("perf.item.count", Integer.toString(commitInterval));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public long chunkStep() throws Exception {
+        TCKJobExecutionWrapper execution = BenchmarkSupport.runJob(jobOp, "perf_listeners_" + listeners, jobParams);
+        return execution.getExecutionId();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * A table of benchmark results, printed to standard out and written as CSV to the directory
+ * named by system property <code>tck.perf.report.dir</code> (default <code>perf-reports</code>).
+ */
+public class BenchmarkReport {
+
+    private final static Logger logger = Logger.getLogger(BenchmarkReport.class.getName());
+
+    public static final String REPORT_DIR_PROPERTY = "tck.perf.report.dir";
+
+    private final String name;
+    private final List<String> columns;
+    private final List<List<String>> rows = new ArrayList<List<String>>();
+
+    public BenchmarkReport(String name, String... columns) {
+        this.name = name;
+        this.columns = Arrays.asList(columns);
+    }
+
+    public void addRow(Object... values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values, got " + values.length);
+        }
+        List<String> row = new ArrayList<String>();
+        for (Object value : values) {
+            row.add(format(value));
+        }
+        rows.add(row);
+        logger.fine(name + ": " + row);
+    }
+
+    /**
+     * Prints the table and writes the CSV file.
+     */
+    public void finish() throws IOException {
+        print(System.out);
+        Path dir = Paths.get(System.getProperty(REPORT_DIR_PROPERTY, "perf-reports"));
+        Files.createDirectories(dir);
+        Path csv = dir.resolve(name + ".csv");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv, StandardCharsets.UTF_8))) {
+            out.println(String.join(",", columns));
+            for (List<String> row : rows) {
+                out.println(String.join(",", row));
+            }
+        }
+        System.out.println("Report written to " + csv.toAbsolutePath());
+    }
+
+    private void print(PrintStream out) {
+        int[] widths = new int[columns.size()];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = columns.get(i).length();
+            for (List<String> row : rows) {
+                widths[i] = Math.max(widths[i], row.get(i).length());
+            }
+        }
+        out.println();
+        out.println("=== " + name + " ===");
+        printRow(out, columns, widths);
+        for (List<String> row : rows) {
+            printRow(out, row, widths);
+        }
+        out.println();
+    }
+
+    private static void printRow(PrintStream out, List<String> row, int[] widths) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < widths.length; i++) {
+            String value = row.get(i);
+            for (int pad = value.length(); pad < widths[i]; pad++) {
+                line.append(' ');
+            }
+            line.append(value).append("  ");
+        }
+        out.println(line.toString().replaceAll("\\s+$", ""));
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            return String.format(Locale.ROOT, "%.1f", ((Number) value).doubleValue());
+        }
+        return String.valueOf(value);
+    }
+}
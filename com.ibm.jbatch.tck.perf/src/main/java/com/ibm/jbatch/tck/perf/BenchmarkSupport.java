@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Configuration and measurement helpers shared by the benchmarks.
+ */
+public class BenchmarkSupport {
+
+    private final static Logger logger = Logger.getLogger(BenchmarkSupport.class.getName());
+
+    public static final String CONFIG_FILE_PROPERTY = "tck.perf.config";
+
+    private static final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Loads the file named by system property <code>tck.perf.config</code>, if any, into the system
+     * properties.  Properties already set on the command line win.
+     */
+    public static void loadConfiguration() throws IOException {
+        String configFile = System.getProperty(CONFIG_FILE_PROPERTY);
+        if (configFile == null) {
+            return;
+        }
+        Properties config = new Properties();
+        try (InputStream in = Files.newInputStream(Paths.get(configFile))) {
+            config.load(in);
+        }
+        for (String name : config.stringPropertyNames()) {
+            if (System.getProperty(name) == null) {
+                System.setProperty(name, config.getProperty(name));
+            }
+        }
+        logger.fine("Loaded benchmark configuration from " + configFile);
+    }
+
+    public static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, Integer.toString(defaultValue)).trim());
+    }
+
+    public static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(System.getProperty(name, Long.toString(defaultValue)).trim());
+    }
+
+    /**
+     * @return the comma-separated values of the given system property, or of the default value if not set
+     */
+    public static List<Long> longListProperty(String name, String defaultValue) {
+        List<Long> values = new ArrayList<Long>();
+        for (String value : System.getProperty(name, defaultValue).split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(Long.parseLong(value.trim()));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Runs a job to completion, failing the benchmark if it doesn't complete.
+     */
+    public static TCKJobExecutionWrapper runJob(JobOperatorBridge jobOp, String jobName, Properties jobParams) throws Exception {
+        TCKJobExecutionWrapper execution = jobOp.startJobAndWaitForResult(jobName, jobParams);
+        if (execution.getBatchStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("Benchmark job " + jobName + " with parameters " + jobParams
+                    + " ended with batch status " + execution.getBatchStatus() + ", exit status " + execution.getExitStatus());
+        }
+        return execution;
+    }
+
+    /**
+     * @return the bytes allocated so far by the current thread, or -1 if the JVM can't tell
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (sunThreadBean.isThreadAllocatedMemorySupported() && sunThreadBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
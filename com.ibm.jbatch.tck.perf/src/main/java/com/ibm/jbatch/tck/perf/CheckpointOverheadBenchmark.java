@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import com.ibm.jbatch.tck.utils.Histogram;
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Runs a chunk step of <code>tck.perf.checkpoint.items</code> items under each checkpoint policy in
+ * <code>tck.perf.checkpoint.policies</code>, sweeping checkpoint frequency and checkpoint data size, and reports
+ * checkpoint persistence latency (see {@link ChunkStatistics#getCheckpointMicros()}) and the throughput lost compared
+ * with a single checkpoint of {@code ArrayIndexCheckpointData}.
+ * <ul>
+ * <li><code>item</code> (<code>perf_checkpoint_item</code>): <code>item-count</code> from <code>tck.perf.checkpoint.intervals</code></li>
+ * <li><code>time</code> (<code>perf_checkpoint_time</code>): <code>time-limit</code> seconds from <code>tck.perf.checkpoint.timeLimits</code></li>
+ * <li><code>custom</code> (<code>perf_checkpoint_custom</code>): {@link PerfCheckpointAlgorithm} every
+ * <code>tck.perf.checkpoint.intervals</code> items</li>
+ * </ul>
+ * Checkpoint data (<code>tck.perf.checkpoint.payloads</code>) is written by {@link PerfCheckpointItemWriter}:
+ * <code>array</code>, <code>numbers</code> or <code>bytes:&lt;n&gt;</code>.
+ */
+public class CheckpointOverheadBenchmark {
+
+    private final static Logger logger = Logger.getLogger(CheckpointOverheadBenchmark.class.getName());
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.loadConfiguration();
+
+        long items = BenchmarkSupport.longProperty("tck.perf.checkpoint.items", 100000);
+        String[] policies = System.getProperty("tck.perf.checkpoint.policies", "item,time,custom").split(",");
+        List<Long> intervals = BenchmarkSupport.longListProperty("tck.perf.checkpoint.intervals", "1,10,100,1000,10000");
+        List<Long> timeLimits = BenchmarkSupport.longListProperty("tck.perf.checkpoint.timeLimits", "1,2,5");
+        String[] payloads = System.getProperty("tck.perf.checkpoint.payloads", "array,numbers,bytes:1024,bytes:65536,bytes:1048576").split(",");
+        long maxCheckpointedBytes = BenchmarkSupport.longProperty("tck.perf.checkpoint.maxBytes", 1L << 30);
+        int warmup = BenchmarkSupport.intProperty("tck.perf.warmup", 1);
+        int iterations = BenchmarkSupport.intProperty("tck.perf.iterations", 3);
+
+        JobOperatorBridge jobOp = new JobOperatorBridge();
+        BenchmarkReport report = new BenchmarkReport("checkpoint-overhead",
+                "policy", "frequency", "payload", "serializedBytes", "checkpoints", "itemsPerSec", "throughputLossPct",
+                "p50CheckpointMicros", "p99CheckpointMicros", "maxCheckpointMicros");
+
+        Properties baselineParams = jobParams(items, "array", 0);
+        baselineParams.setProperty("perf.item.count", Long.toString(items));
+        double baselineRate = run(jobOp, "perf_checkpoint_item", baselineParams, items, warmup, iterations, new Histogram(), new long[1]);
+        logger.info("Baseline, a single checkpoint: " + baselineRate + " items/sec");
+
+        for (String policy : policies) {
+            policy = policy.trim();
+            List<Long> frequencies = "time".equals(policy) ? timeLimits : intervals;
+            for (long frequency : frequencies) {
+                if (!"time".equals(policy) && frequency > items) {
+                    continue;
+                }
+                String frequencyLabel = "time".equals(policy) ? frequency + "s" : frequency + " items";
+                for (String payload : payloads) {
+                    String[] typeAndSize = payload.trim().split(":");
+                    String type = typeAndSize[0];
+                    int payloadBytes = typeAndSize.length > 1 ? Integer.parseInt(typeAndSize[1]) : 0;
+                    int serializedBytes = serializedSize(PerfCheckpointItemWriter.checkpointData(type, payloadBytes, 0));
+
+                    if (!"time".equals(policy) && (items + frequency - 1) / frequency * serializedBytes > maxCheckpointedBytes) {
+                        logger.info("Skipping " + policy + " checkpoints every " + frequencyLabel + " of " + payload
+                                + ": checkpoint data would exceed tck.perf.checkpoint.maxBytes");
+                        report.addRow(policy, frequencyLabel, payload.trim(), serializedBytes, "skipped", "", "", "", "", "");
+                        continue;
+                    }
+
+                    Properties jobParams = jobParams(items, type, payloadBytes);
+                    if ("item".equals(policy)) {
+                        jobParams.setProperty("perf.item.count", Long.toString(frequency));
+                    } else if ("time".equals(policy)) {
+                        jobParams.setProperty("perf.time.limit", Long.toString(frequency));
+                    } else {
+                        jobParams.setProperty("perf.checkpoint.every", Long.toString(frequency));
+                    }
+
+                    Histogram checkpointLatency = new Histogram();
+                    long[] checkpoints = new long[1];
+                    double rate = run(jobOp, "perf_checkpoint_" + policy, jobParams, items, warmup, iterations, checkpointLatency, checkpoints);
+                    report.addRow(policy, frequencyLabel, payload.trim(), serializedBytes, checkpoints[0] / iterations, rate,
+                            baselineRate > 0 ? 100 * (1 - rate / baselineRate) : 0.0,
+                            checkpointLatency.getValueAtPercentile(50), checkpointLatency.getValueAtPercentile(99), checkpointLatency.getMax());
+                }
+            }
+        }
+
+        report.finish();
+        System.exit(0);
+    }
+
+    private static Properties jobParams(long items, String type, int payloadBytes) {
+        Properties jobParams = new Properties();
+        jobParams.setProperty("perf.items", Long.toString(items));
+        jobParams.setProperty("perf.checkpoint.type", type);
+        jobParams.setProperty("perf.checkpoint.bytes", Integer.toString(payloadBytes));
+        return jobParams;
+    }
+
+    /**
+     * Runs the job <code>warmup</code> times untimed and <code>iterations</code> times timed, adding the checkpoint
+     * latencies and the number of checkpoints (chunks) of the timed runs to <code>checkpointLatency</code> and <code>checkpoints</code>.
+     *
+     * @return items per second over the chunk loops of the timed runs
+     */
+    private static double run(JobOperatorBridge jobOp, String jobName, Properties jobParams, long items, int warmup, int iterations,
+            Histogram checkpointLatency, long[] checkpoints) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            ChunkStatistics.remove(BenchmarkSupport.runJob(jobOp, jobName, jobParams).getExecutionId());
+        }
+
+        long elapsedNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            TCKJobExecutionWrapper execution = BenchmarkSupport.runJob(jobOp, jobName, jobParams);
+            ChunkStatistics stats = ChunkStatistics.remove(execution.getExecutionId());
+            checkpointLatency.add(stats.getCheckpointMicros());
+            checkpoints[0] += stats.getChunkCount();
+            elapsedNanos += stats.getElapsedNanos();
+        }
+
+        double seconds = elapsedNanos / 1e9;
+        return seconds > 0 ? (double) items * iterations / seconds : 0.0;
+    }
+
+    private static int serializedSize(Serializable checkpointData) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(checkpointData);
+        }
+        return bytes.size();
+    }
+}
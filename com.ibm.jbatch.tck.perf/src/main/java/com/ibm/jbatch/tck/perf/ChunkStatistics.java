@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ibm.jbatch.tck.utils.Histogram;
+
+/**
+ * Per-chunk timings and allocations recorded by {@link ChunkTimingListener} for one job execution.
+ * Chunks of partitioned steps may be recorded from several threads.
+ * <p>
+ * When the writer calls {@link #checkpointRequested()} from its <code>checkpointInfo</code>, the time from then to the end
+ * of the chunk, which covers persisting the checkpoint and committing the chunk, is recorded as checkpoint latency.
+ */
+public class ChunkStatistics {
+
+    private static final Map<Long, ChunkStatistics> statistics = new ConcurrentHashMap<Long, ChunkStatistics>();
+
+    private static final ThreadLocal<Long> checkpointRequestedNanos = new ThreadLocal<Long>();
+
+    private final Histogram latencyMicros = new Histogram();
+    private final Histogram checkpointMicros = new Histogram();
+    private long firstChunkStartNanos = Long.MAX_VALUE;
+    private long lastChunkEndNanos = Long.MIN_VALUE;
+    private long allocatedBytes = 0;
+    private boolean allocationKnown = true;
+
+    static ChunkStatistics forExecution(long executionId) {
+        return statistics.computeIfAbsent(executionId, id -> new ChunkStatistics());
+    }
+
+    /**
+     * Removes and returns the statistics recorded for a (terminated) job execution.
+     */
+    public static ChunkStatistics remove(long executionId) {
+        ChunkStatistics removed = statistics.remove(executionId);
+        return removed != null ? removed : new ChunkStatistics();
+    }
+
+    /**
+     * Notes that the runtime asked the current chunk thread for its checkpoint data.
+     */
+    static void checkpointRequested() {
+        checkpointRequestedNanos.set(System.nanoTime());
+    }
+
+    /**
+     * @param allocated bytes allocated by the chunk thread during the chunk, or -1 if unknown
+     */
+    synchronized void chunkCompleted(long startNanos, long endNanos, long allocated) {
+        latencyMicros.record((endNanos - startNanos) / 1000);
+        Long requestedNanos = checkpointRequestedNanos.get();
+        if (requestedNanos != null) {
+            checkpointRequestedNanos.remove();
+            checkpointMicros.record((endNanos - requestedNanos) / 1000);
+        }
+        firstChunkStartNanos = Math.min(firstChunkStartNanos, startNanos);
+        lastChunkEndNanos = Math.max(lastChunkEndNanos, endNanos);
+        if (allocated < 0) {
+            allocationKnown = false;
+        } else {
+            allocatedBytes += allocated;
+        }
+    }
+
+    public synchronized Histogram getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    /**
+     * @return latency of persisting the checkpoint and committing, for chunks whose writer called {@link #checkpointRequested()}
+     */
+    public synchronized Histogram getCheckpointMicros() {
+        return checkpointMicros;
+    }
+
+    public synchronized long getChunkCount() {
+        return latencyMicros.getCount();
+    }
+
+    /**
+     * @return nanoseconds from the start of the first chunk to the end of the last one
+     */
+    public synchronized long getElapsedNanos() {
+        return latencyMicros.getCount() == 0 ? 0 : lastChunkEndNanos - firstChunkStartNanos;
+    }
+
+    /**
+     * @return bytes allocated by the chunk threads while processing chunks, or -1 if unknown
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocationKnown ? allocatedBytes : -1;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import com.ibm.jbatch.tck.utils.Histogram;
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Runs the <code>perf_chunk_throughput</code> job, built on the TCK's <code>doSomethingArrayItemReaderImpl</code>
+ * and <code>doSomethingArrayItemProcessorImpl</code>, for every combination of total item count
+ * (<code>tck.perf.chunk.items</code>) and commit interval (<code>tck.perf.chunk.intervals</code>), and reports
+ * items per second, p50/p99 chunk latency and the allocation rate of the chunk thread.
+ * <p>
+ * Throughput and allocation rate are taken over the chunk loop only, from the start of the first chunk to the end of the last,
+ * so that job startup and the TCK's waiting for the job to end are not counted.
+ */
+public class ChunkThroughputBenchmark {
+
+    private final static Logger logger = Logger.getLogger(ChunkThroughputBenchmark.class.getName());
+
+    private static final String JOB_NAME = "perf_chunk_throughput";
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.loadConfiguration();
+
+        List<Long> itemCounts = BenchmarkSupport.longListProperty("tck.perf.chunk.items", "1000,10000,100000,1000000,10000000");
+        List<Long> intervals = BenchmarkSupport.longListProperty("tck.perf.chunk.intervals", "1,10,100,1000,10000");
+        long maxChunks = BenchmarkSupport.longProperty("tck.perf.chunk.maxChunks", 100000);
+        int warmup = BenchmarkSupport.intProperty("tck.perf.warmup", 1);
+        int iterations = BenchmarkSupport.intProperty("tck.perf.iterations", 3);
+
+        JobOperatorBridge jobOp = new JobOperatorBridge();
+        BenchmarkReport report = new BenchmarkReport("chunk-throughput",
+                "items", "commitInterval", "chunks", "itemsPerSec", "p50ChunkMicros", "p99ChunkMicros", "allocMBPerSec", "allocBytesPerItem");
+
+        for (long items : itemCounts) {
+            for (long interval : intervals) {
+                if (interval > items) {
+                    continue;
+                }
+                long chunks = (items + interval - 1) / interval;
+                if (chunks > maxChunks) {
+                    logger.info("Skipping " + items + " items with commit interval " + interval + ": " + chunks + " chunks exceeds tck.perf.chunk.maxChunks");
+                    report.addRow(items, interval, chunks, "skipped", "", "", "", "");
+                    continue;
+                }
+
+                Properties jobParams = new Properties();
+                jobParams.setProperty("perf.items", Long.toString(items));
+                jobParams.setProperty("perf.item.count", Long.toString(interval));
+
+                for (int i = 0; i < warmup; i++) {
+                    ChunkStatistics.remove(BenchmarkSupport.runJob(jobOp, JOB_NAME, jobParams).getExecutionId());
+                }
+
+                Histogram latency = new Histogram();
+                long elapsedNanos = 0;
+                long allocatedBytes = 0;
+                for (int i = 0; i < iterations; i++) {
+                    TCKJobExecutionWrapper execution = BenchmarkSupport.runJob(jobOp, JOB_NAME, jobParams);
+                    ChunkStatistics stats = ChunkStatistics.remove(execution.getExecutionId());
+                    latency.add(stats.getLatencyMicros());
+                    elapsedNanos += stats.getElapsedNanos();
+                    allocatedBytes = (allocatedBytes < 0 || stats.getAllocatedBytes() < 0) ? -1 : allocatedBytes + stats.getAllocatedBytes();
+                }
+
+                double seconds = elapsedNanos / 1e9;
+                double totalItems = (double) items * iterations;
+                report.addRow(items, interval, chunks,
+                        seconds > 0 ? totalItems / seconds : 0.0,
+                        latency.getValueAtPercentile(50),
+                        latency.getValueAtPercentile(99),
+                        allocatedBytes < 0 || seconds == 0 ? "n/a" : (Object) (allocatedBytes / seconds / (1024 * 1024)),
+                        allocatedBytes < 0 ? "n/a" : (Object) (allocatedBytes / totalItems));
+            }
+        }
+
+        report.finish();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import jakarta.batch.api.chunk.listener.AbstractChunkListener;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Records the duration and the allocations of each successful chunk into the {@link ChunkStatistics}
+ * of the job execution.  In a partition mapped by {@link PerfPartitionMapper}, the first chunk also marks
+ * the start of the partition.
+ */
+@Dependent
+@Named("perfChunkTimingListener")
+public class ChunkTimingListener extends AbstractChunkListener {
+
+    @Inject
+    JobContext jobCtx;
+
+    private long startNanos;
+    private long startAllocatedBytes;
+    private boolean started = false;
+
+    @Override
+    public void beforeChunk() throws Exception {
+        if (!started) {
+            started = true;
+            PartitionStatistics.partitionStarted(jobCtx.getExecutionId());
+        }
+        startAllocatedBytes = BenchmarkSupport.currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterChunk() throws Exception {
+        long endNanos = System.nanoTime();
+        long allocated = startAllocatedBytes < 0 ? -1 : BenchmarkSupport.currentThreadAllocatedBytes() - startAllocatedBytes;
+        ChunkStatistics.forExecution(jobCtx.getExecutionId()).chunkCompleted(startNanos, endNanos, allocated);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+
+import javax.naming.InitialContext;
+import javax.sql.DataSource;
+
+import com.ibm.jbatch.tck.artifacts.chunkartifacts.RetryConnectionHelper;
+import com.ibm.jbatch.tck.utils.Histogram;
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Runs the TCK's streaming readers against their per-item counterparts:
+ * <ul>
+ *  <li>the <code>perf_inventory_reader</code> job with <code>inventoryReader</code>, which queries and updates the
+ *      Inventory table with a new connection for every item, and with <code>inventoryCursorReader</code>, for each
+ *      number of units in stock in <code>tck.perf.cursor.items</code>
+ *  <li>the <code>perf_numbers_cursor</code> job, reading the Numbers table with <code>numbersCursorReader</code>, for
+ *      each row count in <code>tck.perf.cursor.rows</code> and each fetch size in <code>tck.perf.cursor.fetchSizes</code>
+ * </ul>
+ * and reports items per second and p50/p99 chunk latency, taken over the chunk loop of the reading step only.
+ * <p>
+ * The cursor readers need the <code>jdbc/orderDB</code> datasource without a transaction manager, by default the
+ * in-memory Derby database set up in config/tck.perf.properties.  The contents of the Numbers table are replaced.
+ */
+public class CursorReaderBenchmark {
+
+    private static final String INVENTORY_JOB = "perf_inventory_reader";
+    private static final String NUMBERS_JOB = "perf_numbers_cursor";
+
+    private static final String DELETE_ALL_NUMBERS = "delete from app.numbers";
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.loadConfiguration();
+
+        List<Long> itemCounts = BenchmarkSupport.longListProperty("tck.perf.cursor.items", "1000,10000");
+        List<Long> rowCounts = BenchmarkSupport.longListProperty("tck.perf.cursor.rows", "1000,10000,100000");
+        List<Long> fetchSizes = BenchmarkSupport.longListProperty("tck.perf.cursor.fetchSizes", "1,100,1000");
+        int interval = BenchmarkSupport.intProperty("tck.perf.cursor.itemCount", 100);
+        int warmup = BenchmarkSupport.intProperty("tck.perf.warmup", 1);
+        int iterations = BenchmarkSupport.intProperty("tck.perf.iterations", 3);
+
+        JobOperatorBridge jobOp = new JobOperatorBridge();
+        BenchmarkReport report = new BenchmarkReport("cursor-reader",
+                "table", "reader", "items", "fetchSize", "itemsPerSec", "p50ChunkMicros", "p99ChunkMicros");
+
+        for (long items : itemCounts) {
+            for (String reader : new String[] {"inventoryReader", "inventoryCursorReader"}) {
+                Properties jobParams = new Properties();
+                jobParams.setProperty("perf.items", Long.toString(items));
+                jobParams.setProperty("perf.item.count", Integer.toString(interval));
+                jobParams.setProperty("perf.reader", reader);
+                measure(jobOp, INVENTORY_JOB, jobParams, items, warmup, iterations, report, "Inventory", reader, "");
+            }
+        }
+
+        DataSource dataSource = (DataSource) new InitialContext().lookup(RetryConnectionHelper.jndiName);
+        for (long rows : rowCounts) {
+            fillNumbers(dataSource, rows);
+            for (long fetchSize : fetchSizes) {
+                Properties jobParams = new Properties();
+                jobParams.setProperty("perf.item.count", Integer.toString(interval));
+                jobParams.setProperty("perf.fetch.size", Long.toString(fetchSize));
+                measure(jobOp, NUMBERS_JOB, jobParams, rows, warmup, iterations, report, "Numbers", "numbersCursorReader", fetchSize);
+            }
+        }
+
+        report.finish();
+        System.exit(0);
+    }
+
+    private static void measure(JobOperatorBridge jobOp, String jobName, Properties jobParams, long items, int warmup, int iterations,
+            BenchmarkReport report, String table, String reader, Object fetchSize) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            ChunkStatistics.remove(BenchmarkSupport.runJob(jobOp, jobName, jobParams).getExecutionId());
+        }
+
+        Histogram latency = new Histogram();
+        long elapsedNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            TCKJobExecutionWrapper execution = BenchmarkSupport.runJob(jobOp, jobName, jobParams);
+            ChunkStatistics stats = ChunkStatistics.remove(execution.getExecutionId());
+            latency.add(stats.getLatencyMicros());
+            elapsedNanos += stats.getElapsedNanos();
+        }
+
+        double seconds = elapsedNanos / 1e9;
+        report.addRow(table, reader, items, fetchSize,
+                seconds > 0 ? (double) items * iterations / seconds : 0.0,
+                latency.getValueAtPercentile(50),
+                latency.getValueAtPercentile(99));
+    }
+
+    /**
+     * Replaces the contents of the Numbers table with items 1 to <code>rows</code>.
+     */
+    private static void fillNumbers(DataSource dataSource, long rows) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement delete = connection.createStatement()) {
+                delete.executeUpdate(DELETE_ALL_NUMBERS);
+            }
+            try (PreparedStatement insert = connection.prepareStatement(RetryConnectionHelper.INSERT_NUMBERS)) {
+                for (int item = 1; item <= rows; item++) {
+                    insert.setInt(1, item);
+                    insert.setInt(2, 10);
+                    insert.addBatch();
+                    if (item % 1000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+}
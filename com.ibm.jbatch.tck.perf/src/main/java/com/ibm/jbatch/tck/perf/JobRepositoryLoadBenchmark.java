@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+
+import com.ibm.jbatch.tck.utils.Histogram;
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Fills the job repository with instances of the TCK's <code>job_batchlet_1step</code> job, up to each count in
+ * <code>tck.perf.repository.instances</code>, and at each count measures the JobOperator queries over the repository:
+ * <code>getJobInstanceCount</code>, <code>getRunningExecutions</code>, and, for a page of
+ * <code>tck.perf.repository.pageSize</code> instances at each offset in <code>tck.perf.repository.offsets</code>,
+ * <code>getJobInstances</code> itself and the <code>getJobExecutions</code> and <code>getStepExecutions</code>
+ * calls made for every instance and execution on the page.
+ * <p>
+ * Instances already in the repository count towards the totals, so a persistent repository is filled only once.
+ */
+public class JobRepositoryLoadBenchmark {
+
+    private static final String JOB_NAME = "job_batchlet_1step";
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.loadConfiguration();
+
+        List<Long> instanceCounts = BenchmarkSupport.longListProperty("tck.perf.repository.instances", "1000,10000,100000");
+        List<Long> offsets = BenchmarkSupport.longListProperty("tck.perf.repository.offsets", "0,1000,10000,50000,99900");
+        int pageSize = BenchmarkSupport.intProperty("tck.perf.repository.pageSize", 100);
+        int concurrency = BenchmarkSupport.intProperty("tck.perf.repository.concurrency", 16);
+        int warmup = BenchmarkSupport.intProperty("tck.perf.warmup", 1);
+        int iterations = BenchmarkSupport.intProperty("tck.perf.iterations", 3);
+
+        JobOperatorBridge jobOp = new JobOperatorBridge();
+        BenchmarkReport report = new BenchmarkReport("job-repository-load",
+                "instances", "query", "offset", "calls", "meanMicros", "p99Micros", "maxMicros");
+
+        for (long instances : instanceCounts) {
+            long populateMillis = populate(jobOp, instances, concurrency);
+            System.out.println("Job repository holds " + instanceCount(jobOp) + " instances of " + JOB_NAME
+                    + " (" + populateMillis + " msec spent adding instances)");
+
+            for (int i = 0; i < warmup; i++) {
+                new Queries(jobOp, instances, offsets, pageSize).run();
+            }
+            Queries queries = new Queries(jobOp, instances, offsets, pageSize);
+            for (int i = 0; i < iterations; i++) {
+                queries.run();
+            }
+            queries.report(report);
+        }
+
+        report.finish();
+        System.exit(0);
+    }
+
+    /**
+     * Starts the job until the repository holds at least the given number of instances of it, with at most
+     * <code>concurrency</code> executions outstanding at once.
+     *
+     * @return msec taken
+     */
+    private static long populate(JobOperatorBridge jobOp, long instances, int concurrency) throws Exception {
+        long start = System.currentTimeMillis();
+        long missing = instances - instanceCount(jobOp);
+        List<CompletableFuture<TCKJobExecutionWrapper>> outstanding = new ArrayList<CompletableFuture<TCKJobExecutionWrapper>>();
+        while (missing > 0) {
+            for (int i = 0; i < concurrency && missing > 0; i++, missing--) {
+                outstanding.add(jobOp.startJobAsync(JOB_NAME, null));
+            }
+            for (CompletableFuture<TCKJobExecutionWrapper> future : outstanding) {
+                TCKJobExecutionWrapper execution = future.join();
+                if (execution.getBatchStatus() != BatchStatus.COMPLETED) {
+                    throw new IllegalStateException("Job " + JOB_NAME + " used to fill the repository ended with batch status "
+                            + execution.getBatchStatus() + ", exit status " + execution.getExitStatus());
+                }
+            }
+            outstanding.clear();
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * @return the number of instances of the job in the repository, 0 if the repository doesn't know the job yet
+     */
+    private static int instanceCount(JobOperatorBridge jobOp) {
+        try {
+            return jobOp.getJobInstanceCount(JOB_NAME);
+        } catch (NoSuchJobException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Latencies, in microseconds, of each query at one repository size.
+     */
+    private static class Queries {
+
+        private final JobOperatorBridge jobOp;
+        private final long instances;
+        private final List<Long> offsets = new ArrayList<Long>();
+        private final int pageSize;
+
+        private final Histogram instanceCount = new Histogram();
+        private final Histogram runningExecutions = new Histogram();
+        private final List<Histogram> jobInstances = new ArrayList<Histogram>();
+        private final List<Histogram> jobExecutions = new ArrayList<Histogram>();
+        private final List<Histogram> stepExecutions = new ArrayList<Histogram>();
+
+        Queries(JobOperatorBridge jobOp, long instances, List<Long> offsets, int pageSize) {
+            this.jobOp = jobOp;
+            this.instances = instances;
+            this.pageSize = pageSize;
+            for (long offset : offsets) {
+                // Offsets past the end of the repository would only time empty pages
+                if (offset < instances) {
+                    this.offsets.add(offset);
+                    jobInstances.add(new Histogram());
+                    jobExecutions.add(new Histogram());
+                    stepExecutions.add(new Histogram());
+                }
+            }
+        }
+
+        void run() throws Exception {
+            long start = System.nanoTime();
+            jobOp.getJobInstanceCount(JOB_NAME);
+            instanceCount.record((System.nanoTime() - start) / 1000);
+
+            start = System.nanoTime();
+            jobOp.getRunningExecutions(JOB_NAME);
+            runningExecutions.record((System.nanoTime() - start) / 1000);
+
+            for (int i = 0; i < offsets.size(); i++) {
+                start = System.nanoTime();
+                List<JobInstance> page = jobOp.getJobInstances(JOB_NAME, offsets.get(i).intValue(), pageSize);
+                jobInstances.get(i).record((System.nanoTime() - start) / 1000);
+
+                for (JobInstance instance : page) {
+                    start = System.nanoTime();
+                    List<JobExecution> executions = jobOp.getJobExecutions(instance);
+                    jobExecutions.get(i).record((System.nanoTime() - start) / 1000);
+
+                    for (JobExecution execution : executions) {
+                        start = System.nanoTime();
+                        jobOp.getStepExecutions(execution.getExecutionId());
+                        stepExecutions.get(i).record((System.nanoTime() - start) / 1000);
+                    }
+                }
+            }
+        }
+
+        void report(BenchmarkReport report) {
+            addRow(report, "getJobInstanceCount", "", instanceCount);
+            addRow(report, "getRunningExecutions", "", runningExecutions);
+            for (int i = 0; i < offsets.size(); i++) {
+                addRow(report, "getJobInstances", offsets.get(i), jobInstances.get(i));
+                addRow(report, "getJobExecutions", offsets.get(i), jobExecutions.get(i));
+                addRow(report, "getStepExecutions", offsets.get(i), stepExecutions.get(i));
+            }
+        }
+
+        private void addRow(BenchmarkReport report, String query, Object offset, Histogram micros) {
+            report.addRow(instances, query, offset, micros.getCount(), micros.getMean(), micros.getValueAtPercentile(99.0), micros.getMax());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.util.List;
+import java.util.Properties;
+
+import jakarta.batch.runtime.StepExecution;
+
+import com.ibm.jbatch.tck.utils.Histogram;
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Runs a partitioned batchlet step (<code>perf_partition_batchlet</code>) and a partitioned chunk step
+ * (<code>perf_partition_chunk</code>), both mapped by the TCK's <code>MyPartitionMapper</code>, at each partition
+ * count in <code>tck.perf.partition.counts</code>, and reports partition dispatch latency, collector-to-analyzer
+ * queue latency and total step time (see {@link PartitionStatistics}).
+ */
+public class PartitionScalingBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.loadConfiguration();
+
+        List<Long> partitionCounts = BenchmarkSupport.longListProperty("tck.perf.partition.counts", "1,2,4,8,16,32,64,128,256,512,1024");
+        String[] variants = System.getProperty("tck.perf.partition.variants", "batchlet,chunk").split(",");
+        String sleep = System.getProperty("tck.perf.partition.sleep", "10");
+        String items = System.getProperty("tck.perf.partition.items", "1000");
+        String itemCount = System.getProperty("tck.perf.partition.itemCount", "100");
+        int warmup = BenchmarkSupport.intProperty("tck.perf.warmup", 1);
+        int iterations = BenchmarkSupport.intProperty("tck.perf.iterations", 3);
+
+        JobOperatorBridge jobOp = new JobOperatorBridge();
+        BenchmarkReport report = new BenchmarkReport("partition-scaling",
+                "step", "partitions", "p50DispatchMicros", "p99DispatchMicros", "maxDispatchMicros",
+                "p50QueueMicros", "p99QueueMicros", "maxQueueMicros", "stepMillis");
+
+        for (String variant : variants) {
+            String jobName = "perf_partition_" + variant.trim();
+            for (long partitions : partitionCounts) {
+                Properties jobParams = new Properties();
+                jobParams.setProperty("perf.partitions", Long.toString(partitions));
+                jobParams.setProperty("perf.partition.sleep", sleep);
+                jobParams.setProperty("perf.items", items);
+                jobParams.setProperty("perf.item.count", itemCount);
+
+                for (int i = 0; i < warmup; i++) {
+                    removeStatistics(BenchmarkSupport.runJob(jobOp, jobName, jobParams).getExecutionId());
+                }
+
+                Histogram dispatch = new Histogram();
+                Histogram queue = new Histogram();
+                long stepMillis = 0;
+                for (int i = 0; i < iterations; i++) {
+                    TCKJobExecutionWrapper execution = BenchmarkSupport.runJob(jobOp, jobName, jobParams);
+                    PartitionStatistics stats = removeStatistics(execution.getExecutionId());
+                    dispatch.add(stats.getDispatchMicros());
+                    queue.add(stats.getQueueMicros());
+                    StepExecution step = jobOp.getStepExecutions(execution.getExecutionId()).get(0);
+                    stepMillis += step.getEndTime().getTime() - step.getStartTime().getTime();
+                }
+
+                report.addRow(variant.trim(), partitions,
+                        dispatch.getValueAtPercentile(50), dispatch.getValueAtPercentile(99), dispatch.getMax(),
+                        queue.getValueAtPercentile(50), queue.getValueAtPercentile(99), queue.getMax(),
+                        stepMillis / iterations);
+            }
+        }
+
+        report.finish();
+        System.exit(0);
+    }
+
+    private static PartitionStatistics removeStatistics(long executionId) {
+        ChunkStatistics.remove(executionId);
+        return PartitionStatistics.remove(executionId);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ibm.jbatch.tck.utils.Histogram;
+
+/**
+ * Partition timings for one job execution, recorded by the <code>perfPartition*</code> artifacts:
+ * <ul>
+ *  <li>dispatch latency - from {@link PerfPartitionMapper} returning the partition plan until a partition starts its work
+ *  <li>queue latency - from {@link PerfPartitionCollector} returning collector data until {@link PerfPartitionAnalyzer} receives it
+ * </ul>
+ */
+public class PartitionStatistics {
+
+    private static final Map<Long, PartitionStatistics> statistics = new ConcurrentHashMap<Long, PartitionStatistics>();
+
+    private final long planMappedNanos;
+    private final Histogram dispatchMicros = new Histogram();
+    private final Histogram queueMicros = new Histogram();
+
+    private PartitionStatistics(long planMappedNanos) {
+        this.planMappedNanos = planMappedNanos;
+    }
+
+    static void planMapped(long executionId) {
+        statistics.put(executionId, new PartitionStatistics(System.nanoTime()));
+    }
+
+    /**
+     * Records the start of a partition, if the step's plan came from {@link PerfPartitionMapper}.
+     */
+    static void partitionStarted(long executionId) {
+        PartitionStatistics stats = statistics.get(executionId);
+        if (stats != null) {
+            long now = System.nanoTime();
+            synchronized (stats) {
+                stats.dispatchMicros.record((now - stats.planMappedNanos) / 1000);
+            }
+        }
+    }
+
+    static void collectorDataReceived(long executionId, long collectedNanos) {
+        PartitionStatistics stats = statistics.get(executionId);
+        if (stats != null) {
+            long now = System.nanoTime();
+            synchronized (stats) {
+                stats.queueMicros.record((now - collectedNanos) / 1000);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the statistics recorded for a (terminated) job execution.
+     */
+    public static PartitionStatistics remove(long executionId) {
+        PartitionStatistics removed = statistics.remove(executionId);
+        return removed != null ? removed : new PartitionStatistics(0);
+    }
+
+    public synchronized Histogram getDispatchMicros() {
+        return dispatchMicros;
+    }
+
+    public synchronized Histogram getQueueMicros() {
+        return queueMicros;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractCheckpointAlgorithm;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Custom checkpoint algorithm checkpointing every <code>perf.checkpoint.every</code> items.
+ * <p>
+ * The TCK's own <code>MyCustomCheckpointAlgorithm</code> needs every checkpoint position spelled out in a property,
+ * which does not scale to the item counts of the benchmarks.
+ */
+@Dependent
+@Named("perfCheckpointAlgorithm")
+public class PerfCheckpointAlgorithm extends AbstractCheckpointAlgorithm {
+
+    @Inject
+    @BatchProperty(name = "perf.checkpoint.every")
+    String everyString;
+
+    private long every = -1;
+    private long items = 0;
+
+    @Override
+    public boolean isReadyToCheckpoint() throws Exception {
+        if (every < 0) {
+            every = Long.parseLong(everyString);
+        }
+        if (++items < every) {
+            return false;
+        }
+        items = 0;
+        return true;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.io.Serializable;
+import java.util.List;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractItemWriter;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import com.ibm.jbatch.tck.artifacts.chunktypes.ArrayIndexCheckpointData;
+import com.ibm.jbatch.tck.artifacts.chunktypes.NumbersCheckpointData;
+import com.ibm.jbatch.tck.artifacts.reusable.MyPersistentRestartUserData;
+
+/**
+ * Like {@link PerfItemWriter}, only counts items, but its checkpoint data is chosen by the <code>perf.checkpoint.type</code>
+ * property: <code>array</code> ({@link ArrayIndexCheckpointData}), <code>numbers</code> ({@link NumbersCheckpointData})
+ * or <code>bytes</code> ({@link PerfCheckpointData} with <code>perf.checkpoint.bytes</code> bytes of payload).
+ * <p>
+ * Sets the persistent user data read by <code>DoSomethingArrayItemReaderImpl</code> to a {@link PerfUserData} padded with
+ * <code>perf.userdata.bytes</code> bytes, counting executions so that the reader's <code>readrecord.fail</code> only
+ * fails the first one.
+ * <p>
+ * Notes in {@link ChunkStatistics} when the runtime asks for the checkpoint data, so that {@link ChunkTimingListener} can
+ * time the persistence of the checkpoint and the commit of the chunk.
+ */
+@Dependent
+@Named("perfCheckpointItemWriter")
+public class PerfCheckpointItemWriter extends AbstractItemWriter {
+
+    @Inject
+    JobContext jobCtx;
+
+    @Inject
+    StepContext stepCtx;
+
+    @Inject
+    @BatchProperty(name = "perf.checkpoint.type")
+    String type;
+
+    @Inject
+    @BatchProperty(name = "perf.checkpoint.bytes")
+    String bytes;
+
+    @Inject
+    @BatchProperty(name = "perf.userdata.bytes")
+    String userDataBytes;
+
+    private long written = 0;
+    private Serializable checkpointData;
+
+    /**
+     * @return checkpoint data of the given type, holding <code>count</code>
+     */
+    static Serializable checkpointData(String type, int payloadBytes, long count) {
+        if ("array".equals(type)) {
+            ArrayIndexCheckpointData data = new ArrayIndexCheckpointData();
+            data.setCurrentIndex((int) count);
+            return data;
+        } else if ("numbers".equals(type)) {
+            NumbersCheckpointData data = new NumbersCheckpointData();
+            data.setCount((int) count);
+            return data;
+        } else if ("bytes".equals(type)) {
+            PerfCheckpointData data = new PerfCheckpointData(payloadBytes);
+            data.setCount(count);
+            return data;
+        }
+        throw new IllegalArgumentException("Unknown checkpoint type: " + type);
+    }
+
+    @Override
+    public void open(Serializable checkpoint) throws Exception {
+        MyPersistentRestartUserData userData = (MyPersistentRestartUserData) stepCtx.getPersistentUserData();
+        int executionNumber = userData == null ? 1 : userData.getExecutionNumber() + 1;
+        stepCtx.setPersistentUserData(new PerfUserData(executionNumber, userDataBytes == null ? 0 : Integer.parseInt(userDataBytes)));
+        checkpointData = checkpointData(type, bytes == null ? 0 : Integer.parseInt(bytes), 0);
+        if (checkpoint instanceof ArrayIndexCheckpointData) {
+            written = ((ArrayIndexCheckpointData) checkpoint).getCurrentIndex();
+        } else if (checkpoint instanceof NumbersCheckpointData) {
+            written = ((NumbersCheckpointData) checkpoint).getCount();
+        } else if (checkpoint instanceof PerfCheckpointData) {
+            written = ((PerfCheckpointData) checkpoint).getCount();
+        }
+    }
+
+    @Override
+    public void writeItems(List<Object> items) throws Exception {
+        written += items.size();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        if (checkpointData instanceof ArrayIndexCheckpointData) {
+            ((ArrayIndexCheckpointData) checkpointData).setCurrentIndex((int) written);
+        } else if (checkpointData instanceof NumbersCheckpointData) {
+            ((NumbersCheckpointData) checkpointData).setCount((int) written);
+        } else {
+            ((PerfCheckpointData) checkpointData).setCount(written);
+        }
+        ChunkStatistics.checkpointRequested();
+        return checkpointData;
+    }
+}
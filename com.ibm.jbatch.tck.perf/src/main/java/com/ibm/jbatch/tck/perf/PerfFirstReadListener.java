@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.batch.api.chunk.listener.AbstractItemReadListener;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Notes when the first item of each job execution is about to be read.
+ */
+@Dependent
+@Named("perfFirstReadListener")
+public class PerfFirstReadListener extends AbstractItemReadListener {
+
+    private static final Map<Long, Long> firstReadNanos = new ConcurrentHashMap<Long, Long>();
+
+    @Inject
+    JobContext jobCtx;
+
+    private boolean read = false;
+
+    /**
+     * Removes and returns the {@link System#nanoTime()} at which a (terminated) job execution started reading,
+     * or null if it never read an item.
+     */
+    public static Long removeFirstReadNanos(long executionId) {
+        return firstReadNanos.remove(executionId);
+    }
+
+    @Override
+    public void beforeRead() throws Exception {
+        if (!read) {
+            read = true;
+            firstReadNanos.putIfAbsent(jobCtx.getExecutionId(), System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.io.Serializable;
+import java.util.List;
+
+import jakarta.batch.api.chunk.AbstractItemWriter;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import com.ibm.jbatch.tck.artifacts.reusable.MyPersistentRestartUserData;
+
+/**
+ * Writer that only counts items, so that the benchmarks measure the runtime's chunk loop and the TCK
+ * reader/processor rather than the array bookkeeping of the TCK writers (which are sized for a few dozen items).
+ * <p>
+ * Like {@code DoSomethingSimpleArrayWriter}, sets the persistent user data read by {@code DoSomethingArrayItemReaderImpl}.
+ */
+@Dependent
+@Named("perfItemWriter")
+public class PerfItemWriter extends AbstractItemWriter {
+
+    @Inject
+    StepContext stepCtx;
+
+    private long written = 0;
+
+    @Override
+    public void open(Serializable checkpoint) throws Exception {
+        if (stepCtx.getPersistentUserData() == null) {
+            stepCtx.setPersistentUserData(new MyPersistentRestartUserData(1, null));
+        }
+        if (checkpoint != null) {
+            written = (Long) checkpoint;
+        }
+    }
+
+    @Override
+    public void writeItems(List<Object> items) throws Exception {
+        written += items.size();
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return written;
+    }
+}
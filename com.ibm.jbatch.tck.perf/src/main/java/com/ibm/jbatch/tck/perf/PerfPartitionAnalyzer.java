@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.io.Serializable;
+
+import jakarta.batch.api.partition.AbstractPartitionAnalyzer;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Records how long collector data from {@link PerfPartitionCollector} spent on its way to the analyzer.
+ */
+@Dependent
+@Named("perfPartitionAnalyzer")
+public class PerfPartitionAnalyzer extends AbstractPartitionAnalyzer {
+
+    @Inject
+    JobContext jobCtx;
+
+    @Override
+    public void analyzeCollectorData(Serializable data) throws Exception {
+        PartitionStatistics.collectorDataReceived(jobCtx.getExecutionId(), (Long) data);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import jakarta.batch.api.AbstractBatchlet;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Partition batchlet in the style of <code>job_batchlet_longrunning_partitioned</code>: notes its start,
+ * then sleeps for <code>perf.partition.sleep</code> msec.
+ */
+@Dependent
+@Named("perfPartitionBatchlet")
+public class PerfPartitionBatchlet extends AbstractBatchlet {
+
+    @Inject
+    JobContext jobCtx;
+
+    @Inject
+    @BatchProperty(name = "perf.partition.sleep")
+    String sleepString;
+
+    @Override
+    public String process() throws Exception {
+        PartitionStatistics.partitionStarted(jobCtx.getExecutionId());
+        long sleep = sleepString == null || sleepString.isEmpty() ? 0 : Long.parseLong(sleepString);
+        if (sleep > 0) {
+            Thread.sleep(sleep);
+        }
+        return "COMPLETED";
+    }
+}
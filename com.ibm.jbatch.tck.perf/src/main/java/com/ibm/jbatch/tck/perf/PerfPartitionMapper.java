@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import jakarta.batch.api.partition.PartitionPlan;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import com.ibm.jbatch.tck.artifacts.specialized.MyPartitionMapper;
+
+/**
+ * The TCK's {@link MyPartitionMapper} (<code>numPartitionsProp</code> partitions), noting when the plan was handed to the runtime.
+ */
+@Dependent
+@Named("perfPartitionMapper")
+public class PerfPartitionMapper extends MyPartitionMapper {
+
+    @Inject
+    JobContext jobCtx;
+
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        PartitionPlan plan = super.mapPartitions();
+        PartitionStatistics.planMapped(jobCtx.getExecutionId());
+        return plan;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.perf;
+
+import java.util.List;
+import java.util.Properties;
+
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.StepExecution;
+
+import com.ibm.jbatch.tck.utils.Histogram;
+import com.ibm.jbatch.tck.utils.JobOperatorBridge;
+import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
+
+/**
+ * Runs the <code>perf_restart</code> job, whose <code>doSomethingArrayItemReaderImpl</code> fails on item
+ * <code>tck.perf.restart.failAt</code> of the first execution, then restarts it, for every combination of checkpoint
+ * size (<code>tck.perf.restart.checkpointBytes</code>) and persistent user data size (<code>tck.perf.restart.userDataBytes</code>).
+ * Reports the time from calling <code>JobOperator.restart</code> until the restarted execution is about to read its first item,
+ * which covers loading the job, the checkpoint and the persistent user data and reopening the reader and writer.
+ */
+public class RestartCostBenchmark {
+
+    private static final String JOB_NAME = "perf_restart";
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.loadConfiguration();
+
+        long items = BenchmarkSupport.longProperty("tck.perf.restart.items", 10000);
+        long itemCount = BenchmarkSupport.longProperty("tck.perf.restart.itemCount", 100);
+        long failAt = BenchmarkSupport.longProperty("tck.perf.restart.failAt", 5001);
+        List<Long> checkpointSizes = BenchmarkSupport.longListProperty("tck.perf.restart.checkpointBytes", "0,1024,65536,1048576,4194304");
+        List<Long> userDataSizes = BenchmarkSupport.longListProperty("tck.perf.restart.userDataBytes", "0,1024,65536,1048576,4194304");
+        int warmup = BenchmarkSupport.intProperty("tck.perf.warmup", 1);
+        int iterations = BenchmarkSupport.intProperty("tck.perf.iterations", 3);
+
+        JobOperatorBridge jobOp = new JobOperatorBridge();
+        BenchmarkReport report = new BenchmarkReport("restart-cost",
+                "checkpointBytes", "userDataBytes", "meanRestartToReadMicros", "maxRestartToReadMicros", "restartStepMillis");
+
+        for (long checkpointBytes : checkpointSizes) {
+            for (long userDataBytes : userDataSizes) {
+                Properties jobParams = new Properties();
+                jobParams.setProperty("perf.items", Long.toString(items));
+                jobParams.setProperty("perf.item.count", Long.toString(itemCount));
+                jobParams.setProperty("perf.fail.at", Long.toString(failAt));
+                jobParams.setProperty("perf.checkpoint.bytes", Long.toString(checkpointBytes));
+                jobParams.setProperty("perf.userdata.bytes", Long.toString(userDataBytes));
+
+                for (int i = 0; i < warmup; i++) {
+                    failAndRestart(jobOp, jobParams, new Histogram());
+                }
+
+                Histogram restartToRead = new Histogram();
+                long stepMillis = 0;
+                for (int i = 0; i < iterations; i++) {
+                    TCKJobExecutionWrapper restarted = failAndRestart(jobOp, jobParams, restartToRead);
+                    StepExecution step = jobOp.getStepExecutions(restarted.getExecutionId()).get(0);
+                    stepMillis += step.getEndTime().getTime() - step.getStartTime().getTime();
+                }
+
+                report.addRow(checkpointBytes, userDataBytes, restartToRead.getMean(), restartToRead.getMax(), (double) stepMillis / iterations);
+            }
+        }
+
+        report.finish();
+        System.exit(0);
+    }
+
+    /**
+     * Runs the job until it fails, then restarts it to completion, recording the restart's time to its first read.
+     *
+     * @return the restarted execution
+     */
+    private static TCKJobExecutionWrapper failAndRestart(JobOperatorBridge jobOp, Properties jobParams, Histogram restartToReadMicros) throws Exception {
+        TCKJobExecutionWrapper failed = jobOp.startJobAndWaitForResult(JOB_NAME, jobParams);
+        PerfFirstReadListener.removeFirstReadNanos(failed.getExecutionId());
+        if (failed.getBatchStatus() != BatchStatus.FAILED) {
+            throw new IllegalStateException("Benchmark job " + JOB_NAME + " with parameters " + jobParams
+                    + " was expected to fail but ended with batch status " + failed.getBatchStatus());
+        }
+
+        long restartNanos = System.nanoTime();
+        TCKJobExecutionWrapper restarted = jobOp.restartJobAndWaitForResult(failed.getExecutionId(), jobParams);
+        Long firstReadNanos = PerfFirstReadListener.removeFirstReadNanos(restarted.getExecutionId());
+        if (restarted.getBatchStatus() != BatchStatus.COMPLETED || firstReadNanos == null) {
+            throw new IllegalStateException("Restart of benchmark job " + JOB_NAME + " with parameters " + jobParams
+                    + " ended with batch status " + restarted.getBatchStatus() + ", exit status " + restarted.getExitStatus());
+        }
+        restartToReadMicros.record((firstReadNanos - restartNanos) / 1000);
+        return restarted;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * Waiter for a group of JobExecution(s) to reach a "final" state, without blocking the caller.
+ * <p>
+ * Waiting starts as soon as the waiter is created.  For the meaning of "final" state see
+ * {@link JobExecutionWaiter#awaitTermination()}.
+ *
+ * @see JobExecutionWaiterFactory#createGroupWaiter JobExecutionWaiterFactory.createGroupWaiter(...)
+ */
+public interface JobExecutionGroupWaiter {
+
+    /**
+     * One future per execution id of the group, in the iteration order of the ids passed to the
+     * factory create method.
+     * <p>
+     * Each future completes with the JobExecution once it reaches a final state, or completes
+     * exceptionally, e.g. with a {@link JobExecutionTimeoutException} when the timeout specified
+     * in the factory create method expires first.
+     *
+     * @return map of execution id to future
+     */
+    Map<Long, CompletableFuture<JobExecution>> getFutures();
+
+    /**
+     * @return future completing once every execution of the group has reached a final state,
+     * with the JobExecution(s) in the same order as {@link #getFutures()}, or completing
+     * exceptionally if any of the per-execution futures does.
+     */
+    CompletableFuture<List<JobExecution>> allTerminated();
+
+    /**
+     * Combine per-execution futures into one completing with all the results, in order,
+     * as needed by implementations of {@link #allTerminated()}.
+     *
+     * @param futures per-execution futures
+     * @return combined future
+     */
+    public static CompletableFuture<List<JobExecution>> allOf(Collection<CompletableFuture<JobExecution>> futures) {
+        final List<CompletableFuture<JobExecution>> ordered = new ArrayList<CompletableFuture<JobExecution>>(futures);
+        return CompletableFuture.allOf(ordered.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<JobExecution> results = new ArrayList<JobExecution>(ordered.size());
+            for (CompletableFuture<JobExecution> future : ordered) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+}
@@ -18,6 +18,8 @@
  */
 package com.ibm.jbatch.tck.spi;
 
+import java.util.Collection;
+
 import jakarta.batch.operations.JobOperator;
 
 /**
@@ -40,4 +42,23 @@ public interface JobExecutionWaiterFactory {
      * @see JobExecutionWaiter#awaitTermination
      */
     public JobExecutionWaiter createWaiter(long executionId, JobOperator jobOp, long sleepTime);
+
+    /**
+     * Create a waiter to wait for a group of JobExecution(s) to reach a "final" state, returning
+     * immediately rather than blocking.
+     *
+     * <p>
+     * The default implementation awaits each execution in turn, on a single thread, using waiters
+     * from {@link #createWaiter createWaiter(...)}.  Implementations may override this to check all
+     * the executions in one shared loop, or to subscribe to all of them at once.
+     *
+     * @param executionIds JobExecution ids of the executions to wait for.
+     * @param jobOp        Reference to JobOperator instance used to get execution ids (see {@link #createWaiter createWaiter(...)}).
+     * @param sleepTime    Time to wait, in milliseconds, for all of the job executions to reach a "final" state.
+     * @return group waiter instance
+     * @see JobExecutionGroupWaiter
+     */
+    public default JobExecutionGroupWaiter createGroupWaiter(Collection<Long> executionIds, JobOperator jobOp, long sleepTime) {
+        return new SerialJobExecutionGroupWaiter(this, executionIds, jobOp, sleepTime);
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.spi;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * Fallback used by {@link JobExecutionWaiterFactory#createGroupWaiter}, for factories
+ * which only implement single-execution waiters.
+ * <p>
+ * Awaits each execution in turn on a single daemon thread, so a future may complete somewhat
+ * later than its execution did, but never before.
+ */
+class SerialJobExecutionGroupWaiter implements JobExecutionGroupWaiter, Runnable {
+
+    private final JobExecutionWaiterFactory factory;
+    private final JobOperator jobOp;
+    private final long timeout;
+    private final Map<Long, CompletableFuture<JobExecution>> futures = new LinkedHashMap<Long, CompletableFuture<JobExecution>>();
+    private final CompletableFuture<List<JobExecution>> allFuture;
+
+    SerialJobExecutionGroupWaiter(JobExecutionWaiterFactory factory, Collection<Long> executionIds, JobOperator jobOp, long timeout) {
+        this.factory = factory;
+        this.jobOp = jobOp;
+        this.timeout = timeout;
+        for (Long executionId : executionIds) {
+            futures.put(executionId, new CompletableFuture<JobExecution>());
+        }
+        allFuture = JobExecutionGroupWaiter.allOf(futures.values());
+
+        Thread thread = new Thread(this, "TCK group waiter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public Map<Long, CompletableFuture<JobExecution>> getFutures() {
+        return Collections.unmodifiableMap(futures);
+    }
+
+    @Override
+    public CompletableFuture<List<JobExecution>> allTerminated() {
+        return allFuture;
+    }
+
+    @Override
+    public void run() {
+        long startTime = System.currentTimeMillis();
+        for (Map.Entry<Long, CompletableFuture<JobExecution>> entry : futures.entrySet()) {
+            long remaining = Math.max(0, timeout - (System.currentTimeMillis() - startTime));
+            try {
+                entry.getValue().complete(factory.createWaiter(entry.getKey(), jobOp, remaining).awaitTermination());
+            } catch (Throwable t) {
+                entry.getValue().completeExceptionally(t);
+            }
+        }
+    }
+}
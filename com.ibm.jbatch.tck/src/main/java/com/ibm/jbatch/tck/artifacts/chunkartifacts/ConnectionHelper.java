@@ -25,6 +25,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.logging.Logger;
 
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
 import javax.sql.DataSource;
 
 public class ConnectionHelper {
@@ -37,12 +39,19 @@ public class ConnectionHelper {
     // I can't get this to work in Glassfish, so for internal use am sticking with what we had before.
     public static final String jndiName = "jdbc/orderDB";
 
+    // Bound in every Jakarta EE container with a transaction manager, see checkNoTransactionManager()
+    public static final String TRANSACTION_SYNCHRONIZATION_REGISTRY = "java:comp/TransactionSynchronizationRegistry";
+
     public static final String INSERT_INVENTORY = "insert into app.inventory values(?, ?)";
 
     public static final String UPDATE_INVENTORY = "update app.inventory set quantity = ? where itemID = ?";
 
     public static final String SELECT_INVENTORY = "select itemID, quantity from app.inventory where itemID = ?";
 
+    public static final String SELECT_INVENTORY_IN_STOCK = "select itemID, quantity from app.inventory where quantity > 0 order by itemID";
+
+    public static final String DECREMENT_INVENTORY = "update app.inventory set quantity = quantity - ? where itemID = ?";
+
     public static final String DELETE_INVENTORY = "delete from app.Inventory where itemID = ?";
 
     public static final String DELETE_ALL_ORDERS = "delete from app.Orders where orderID > 0";
@@ -56,18 +65,36 @@ public class ConnectionHelper {
      */
     public static Connection getConnection(DataSource dataSource) throws SQLException {
 
-        Connection conn = dataSource.getConnection();
+        Connection conn = ConnectionPool.isEnabled() ? ConnectionPool.getConnection(dataSource) : dataSource.getConnection();
         return conn;
     }
 
 
     public static Connection getConnection(DataSource dataSource, boolean autoCommit) throws SQLException {
-        Connection conn = dataSource.getConnection();
+        Connection conn = ConnectionPool.isEnabled() ? ConnectionPool.getConnection(dataSource) : dataSource.getConnection();
         conn.setAutoCommit(autoCommit);
 
         return conn;
     }
 
+    /**
+     * Fails unless running without a transaction manager, e.g. in Java SE.  Used by the readers holding a cursor
+     * open across chunk transactions, whose connection would otherwise be enlisted in the chunk's global transaction:
+     * drivers don't support holdable cursors on XA connections, nor changing the isolation level of an enlisted one.
+     *
+     * @param ctx - context to look up the transaction synchronization registry in
+     * @param artifactName - name of the calling artifact, for the error message
+     */
+    public static void checkNoTransactionManager(InitialContext ctx, String artifactName) {
+        try {
+            ctx.lookup(TRANSACTION_SYNCHRONIZATION_REGISTRY);
+        } catch (NamingException e) {
+            return;
+        }
+        throw new IllegalStateException(artifactName + " keeps a cursor open across chunk transactions and is only supported "
+                + "without a transaction manager (e.g. Java SE), but found " + TRANSACTION_SYNCHRONIZATION_REGISTRY);
+    }
+
     /**
      * closes connection to DB
      *
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.artifacts.chunkartifacts;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * Optional, bounded pool of JDBC connections for {@link ConnectionHelper} and {@link RetryConnectionHelper}, for running
+ * the database-backed artifacts in Java SE against a DataSource that opens a physical connection on every
+ * <code>getConnection</code> (such as a plain Derby DataSource).
+ * <p>
+ * Enabled by setting system property {@value #MAX_SIZE_PROPERTY} to the maximum number of connections per DataSource.
+ * It must not be enabled with container-managed DataSources, which pool connections themselves and enlist them
+ * in global transactions.  Other settings:
+ * <ul>
+ *  <li>{@value #VALIDATE_PROPERTY} - whether to check idle connections with <code>Connection.isValid</code> before
+ *      reusing them (default <code>true</code>)
+ *  <li>{@value #TIMEOUT_PROPERTY} - msec to wait for a connection when all are in use, before failing (default 30000)
+ *  <li>{@value #STATISTICS_FILE_PROPERTY} - path of a file to which the statistics of each pool are written when the JVM exits
+ * </ul>
+ * A connection is returned to the pool when closed, after rolling back uncommitted work and restoring its auto-commit
+ * and isolation settings.
+ */
+class ConnectionPool {
+
+    private static final String CLASSNAME = ConnectionPool.class.getName();
+    private final static Logger logger = Logger.getLogger(CLASSNAME);
+
+    static final String MAX_SIZE_PROPERTY = "tck.connection.pool.maxSize";
+    static final String VALIDATE_PROPERTY = "tck.connection.pool.validate";
+    static final String TIMEOUT_PROPERTY = "tck.connection.pool.timeout";
+    static final String STATISTICS_FILE_PROPERTY = "tck.connection.pool.statistics.file";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private static final int maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, 0);
+    private static final boolean validate = Boolean.parseBoolean(System.getProperty(VALIDATE_PROPERTY, "true"));
+    private static final long timeoutMillis = Long.getLong(TIMEOUT_PROPERTY, 30000);
+    private static final String statisticsFile = System.getProperty(STATISTICS_FILE_PROPERTY);
+
+    private static final Map<DataSource, ConnectionPool> pools = new ConcurrentHashMap<DataSource, ConnectionPool>();
+
+    static {
+        if (maxSize > 0 && statisticsFile != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ConnectionPool::writeStatistics, "TCK connection pool statistics"));
+        }
+    }
+
+    private final DataSource dataSource;
+    private final Semaphore permits = new Semaphore(maxSize, true);
+    private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<PooledConnection>();
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger maxInUse = new AtomicInteger();
+
+    private ConnectionPool(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    static boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    static Connection getConnection(DataSource dataSource) throws SQLException {
+        return pools.computeIfAbsent(dataSource, ConnectionPool::new).borrow();
+    }
+
+    private Connection borrow() throws SQLException {
+        if (!permits.tryAcquire()) {
+            long startNanos = System.nanoTime();
+            waits.incrementAndGet();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a pooled connection", e);
+            } finally {
+                waitNanos.addAndGet(System.nanoTime() - startNanos);
+            }
+            if (!acquired) {
+                throw new SQLException("No pooled connection became available within " + timeoutMillis + " ms; all "
+                        + maxSize + " (" + MAX_SIZE_PROPERTY + ") are in use");
+            }
+        }
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idle.pollFirst()) != null && !isUsable(pooled.physical)) {
+                discarded.incrementAndGet();
+                closeQuietly(pooled.physical);
+            }
+            if (pooled == null) {
+                Connection physical = dataSource.getConnection();
+                created.incrementAndGet();
+                pooled = new PooledConnection(physical, physical.getAutoCommit(), physical.getTransactionIsolation());
+            }
+
+            borrowed.incrementAndGet();
+            maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+            return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, new LogicalConnection(pooled));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        inUse.decrementAndGet();
+        try {
+            Connection physical = pooled.physical;
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+            }
+            if (physical.getAutoCommit() != pooled.autoCommit) {
+                physical.setAutoCommit(pooled.autoCommit);
+            }
+            if (physical.getTransactionIsolation() != pooled.isolation) {
+                physical.setTransactionIsolation(pooled.isolation);
+            }
+            // Most recently used first, so that the fewest connections stay in use
+            idle.offerFirst(pooled);
+        } catch (SQLException e) {
+            logger.fine("Discarding pooled connection that could not be reset: " + e);
+            discarded.incrementAndGet();
+            closeQuietly(pooled.physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static boolean isUsable(Connection physical) {
+        try {
+            return !physical.isClosed() && (!validate || physical.isValid(VALIDATION_TIMEOUT_SECONDS));
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection physical) {
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            logger.fine("Ignoring failure to close pooled connection: " + e);
+        }
+    }
+
+    private static void writeStatistics() {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(statisticsFile), StandardCharsets.UTF_8))) {
+            out.println("# TCK connection pool statistics, " + MAX_SIZE_PROPERTY + "=" + maxSize);
+            for (ConnectionPool pool : pools.values()) {
+                out.println(pool);
+            }
+        } catch (IOException e) {
+            logger.warning("Couldn't write connection pool statistics to " + statisticsFile + ": " + e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long waitCount = waits.get();
+        return dataSource + ": created=" + created + " borrowed=" + borrowed + " discarded=" + discarded + " idle=" + idle.size()
+                + " maxInUse=" + maxInUse + "/" + maxSize + " waits=" + waitCount
+                + " meanWaitMicros=" + (waitCount == 0 ? 0 : waitNanos.get() / waitCount / 1000);
+    }
+
+    private static class PooledConnection {
+
+        final Connection physical;
+        // settings as created by the DataSource
+        final boolean autoCommit;
+        final int isolation;
+
+        PooledConnection(Connection physical, boolean autoCommit, int isolation) {
+            this.physical = physical;
+            this.autoCommit = autoCommit;
+            this.isolation = isolation;
+        }
+    }
+
+    /**
+     * The Connection handed out for one borrowing: delegates to the physical connection until closed, at which point
+     * the physical connection goes back to the pool.  Closing again is a no-op, as {@link ConnectionHelper#cleanupConnection} closes twice.
+     */
+    private class LogicalConnection implements InvocationHandler {
+
+        private final PooledConnection pooled;
+        private boolean closed = false;
+
+        LogicalConnection(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + pooled.physical;
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Connection has already been closed (returned to the pool)");
+            }
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.artifacts.chunkartifacts;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.inject.Inject;
+import javax.naming.InitialContext;
+import javax.sql.DataSource;
+
+import com.ibm.jbatch.tck.artifacts.chunktypes.InventoryCheckpointData;
+import com.ibm.jbatch.tck.artifacts.chunktypes.InventoryRecord;
+
+/**
+ * Streaming alternative to {@link InventoryReader}: returns one single-item order per unit of inventory in stock,
+ * read through a single cursor opened in {@link #open(Serializable)}, rather than querying and updating the
+ * Inventory table with a new connection for every item.
+ * <p>
+ * The inventory taken by the orders of a chunk is deducted with one batch of updates from {@link #checkpointInfo()},
+ * i.e. after the chunk's items are written.  Since there is no transaction manager, the update runs on an
+ * auto-commit connection of its own and commits on its own: a chunk failing after that point is not rolled back
+ * with it, so its orders stay deducted and aren't read again.  A restarted step reopens the cursor on the inventory
+ * left by the last deduction, and the checkpointed order count only feeds the <code>InitialCheckpoint</code>
+ * reported by {@link InventoryStepListener}.
+ * <p>
+ * The <code>fetch.size</code> property, if set, is passed to the driver as the cursor's fetch size.
+ * <p>
+ * Only for use without a transaction manager, e.g. in Java SE: the cursor's connection must not be enlisted in the
+ * chunk transactions, so {@link #open(Serializable)} fails if a transaction manager is found
+ * (see {@link ConnectionHelper#checkNoTransactionManager}).
+ */
+@jakarta.inject.Named("inventoryCursorReader")
+public class InventoryCursorReader extends AbstractItemReader {
+
+    private static final String CLASSNAME = InventoryCursorReader.class.getName();
+    private final static Logger logger = Logger.getLogger(CLASSNAME);
+
+    protected DataSource dataSource = null;
+
+    @Inject
+    StepContext stepCtx;
+
+    @Inject
+    @BatchProperty(name = "fetch.size")
+    String fetchSizeProp;
+
+    int readerIndex = 0; //the number of items that have already been read
+    InventoryCheckpointData inventoryCheckpoint = new InventoryCheckpointData();
+
+    Connection connection = null;
+    PreparedStatement statement = null;
+    ResultSet cursor = null;
+
+    int itemID = -1;
+    int inStock = 0; // units of itemID not yet ordered
+
+    Map<Integer, Integer> uncheckpointedOrders = new LinkedHashMap<Integer, Integer>(); // itemID -> units ordered in this chunk
+
+    @Override
+    public void open(Serializable cpd) throws Exception {
+
+        InventoryCheckpointData checkpointData = (InventoryCheckpointData) cpd;
+
+        InitialContext ctx = new InitialContext();
+        ConnectionHelper.checkNoTransactionManager(ctx, "inventoryCursorReader");
+        dataSource = (DataSource) ctx.lookup(ConnectionHelper.jndiName);
+
+        if (cpd != null) {
+            this.readerIndex = checkpointData.getInventoryCount();
+            this.inventoryCheckpoint.setInventoryCount(readerIndex);
+            stepCtx.setTransientUserData(this.readerIndex);
+        }
+
+        // Orders of a chunk that failed before its deduction are read again from the reopened cursor
+        uncheckpointedOrders.clear();
+        inStock = 0;
+
+        connection = ConnectionHelper.getConnection(dataSource);
+        // Don't hold read locks on the cursor's current row, which checkpointInfo() updates from another connection
+        connection.setTransactionIsolation(Connection.TRANSACTION_READ_UNCOMMITTED);
+        statement = connection.prepareStatement(ConnectionHelper.SELECT_INVENTORY_IN_STOCK,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+        if (fetchSizeProp != null && !fetchSizeProp.isEmpty()) {
+            statement.setFetchSize(Integer.parseInt(fetchSizeProp));
+        }
+        cursor = statement.executeQuery();
+    }
+
+    @Override
+    public InventoryRecord readItem() throws Exception {
+
+        while (inStock < 1) {
+            //If we run out of items we are done so stop processing orders
+            if (!cursor.next()) {
+                return null;
+            }
+            itemID = cursor.getInt("itemID");
+            inStock = cursor.getInt("quantity");
+        }
+
+        inStock--;
+        uncheckpointedOrders.merge(itemID, 1, Integer::sum);
+
+        readerIndex++;
+        this.inventoryCheckpoint.setInventoryCount(readerIndex);
+
+        return new InventoryRecord(itemID, 1); //Every order only orders 1 item
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        logger.finer("InventoryCursorReader.checkpointInfo() index = " + this.inventoryCheckpoint.getInventoryCount());
+
+        if (!uncheckpointedOrders.isEmpty()) {
+            decrementInventory();
+        }
+
+        return this.inventoryCheckpoint;
+    }
+
+    @Override
+    public void close() throws Exception {
+        ConnectionHelper.cleanupConnection(connection, cursor, statement);
+    }
+
+    private void decrementInventory() throws Exception {
+
+        Connection chunkConnection = null;
+        PreparedStatement decrement = null;
+
+        try {
+            chunkConnection = ConnectionHelper.getConnection(dataSource);
+            decrement = chunkConnection.prepareStatement(ConnectionHelper.DECREMENT_INVENTORY);
+            for (Map.Entry<Integer, Integer> orders : uncheckpointedOrders.entrySet()) {
+                decrement.setInt(1, orders.getValue());
+                decrement.setInt(2, orders.getKey());
+                decrement.addBatch();
+            }
+            decrement.executeBatch();
+            uncheckpointedOrders.clear();
+        } finally {
+            ConnectionHelper.cleanupConnection(chunkConnection, null, decrement);
+        }
+    }
+}
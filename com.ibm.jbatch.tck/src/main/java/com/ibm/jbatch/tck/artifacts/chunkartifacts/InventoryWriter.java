@@ -46,8 +46,17 @@ public class InventoryWriter extends AbstractItemWriter {
     @BatchProperty(name = "dummy.delay.seconds")
     String dummyDelayProp;
 
+    /**
+     * When "true", each chunk's orders are inserted with a single JDBC batch rather than one statement per item.
+     */
+    @Inject
+    @BatchProperty(name = "batch.insert")
+    String batchInsertProp;
+
     int forcedFailCount, dummyDelay = -1;
 
+    boolean batchInsert = false;
+
     int writerIndex = 0; // the number of items that have already been written
 
     @Override
@@ -58,6 +67,7 @@ public class InventoryWriter extends AbstractItemWriter {
 
         forcedFailCount = Integer.parseInt(forcedFailCountProp);
         dummyDelay = Integer.parseInt(dummyDelayProp);
+        batchInsert = Boolean.parseBoolean(batchInsertProp);
 
     }
 
@@ -74,14 +84,24 @@ public class InventoryWriter extends AbstractItemWriter {
         try {
             connection = ConnectionHelper.getConnection(dataSource);
 
+            if (batchInsert) {
+                statement = connection.prepareStatement(ConnectionHelper.INSERT_ORDER);
+            }
+
             for (Object record : records) {
                 itemID = ((InventoryRecord) record).getItemID();
                 quantity = ((InventoryRecord) record).getQuantity();
 
-                statement = connection.prepareStatement(ConnectionHelper.INSERT_ORDER);
-                statement.setInt(1, itemID);
-                statement.setInt(2, quantity);
-                int rs = statement.executeUpdate();
+                if (batchInsert) {
+                    statement.setInt(1, itemID);
+                    statement.setInt(2, quantity);
+                    statement.addBatch();
+                } else {
+                    statement = connection.prepareStatement(ConnectionHelper.INSERT_ORDER);
+                    statement.setInt(1, itemID);
+                    statement.setInt(2, quantity);
+                    int rs = statement.executeUpdate();
+                }
 
                 writerIndex++;
 
@@ -97,6 +117,10 @@ public class InventoryWriter extends AbstractItemWriter {
                     }
                 }
             }
+
+            if (batchInsert) {
+                statement.executeBatch();
+            }
         } catch (SQLException e) {
             throw e;
         } finally {
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.artifacts.chunkartifacts;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.logging.Logger;
+
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.inject.Inject;
+import javax.naming.InitialContext;
+import javax.sql.DataSource;
+
+import com.ibm.jbatch.tck.artifacts.chunktypes.NumbersCheckpointData;
+import com.ibm.jbatch.tck.artifacts.chunktypes.NumbersRecord;
+
+/**
+ * Streaming alternative to {@link NumbersReader}: reads the whole Numbers table through a single cursor opened in
+ * {@link #open(Serializable)}, rather than one query and connection per item.  On restart the cursor starts at the
+ * item following the last checkpointed one.
+ * <p>
+ * The <code>fetch.size</code> property, if set, is passed to the driver as the cursor's fetch size.
+ * <p>
+ * Only for use without a transaction manager, e.g. in Java SE: the cursor's connection must not be enlisted in the
+ * chunk transactions, so {@link #open(Serializable)} fails if a transaction manager is found
+ * (see {@link ConnectionHelper#checkNoTransactionManager}).
+ */
+@jakarta.inject.Named("numbersCursorReader")
+public class NumbersCursorReader extends AbstractItemReader {
+
+    private static final String CLASSNAME = NumbersCursorReader.class.getName();
+    private final static Logger logger = Logger.getLogger(CLASSNAME);
+
+    protected DataSource dataSource = null;
+
+    @Inject
+    StepContext stepCtx;
+
+    @Inject
+    @BatchProperty(name = "fetch.size")
+    String fetchSizeProp;
+
+    int readerIndex = 1; // the next item to read
+
+    Connection connection = null;
+    PreparedStatement statement = null;
+    ResultSet cursor = null;
+
+    @Override
+    public void open(Serializable cpd) throws Exception {
+
+        NumbersCheckpointData numbersCheckpointData = (NumbersCheckpointData) cpd;
+
+        InitialContext ctx = new InitialContext();
+        ConnectionHelper.checkNoTransactionManager(ctx, "numbersCursorReader");
+        dataSource = (DataSource) ctx.lookup(RetryConnectionHelper.jndiName);
+
+        if (cpd != null) {
+            this.readerIndex = numbersCheckpointData.getCount();
+            stepCtx.getProperties().setProperty("init.checkpoint", this.readerIndex + "");
+        }
+
+        connection = RetryConnectionHelper.getConnection(dataSource);
+        // Don't hold read locks on the cursor's current row, which the writer may update from the chunk's own connection
+        connection.setTransactionIsolation(Connection.TRANSACTION_READ_UNCOMMITTED);
+        statement = connection.prepareStatement(RetryConnectionHelper.SELECT_NUMBERS_FROM,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+        if (fetchSizeProp != null && !fetchSizeProp.isEmpty()) {
+            statement.setFetchSize(Integer.parseInt(fetchSizeProp));
+        }
+        statement.setInt(1, readerIndex);
+        cursor = statement.executeQuery();
+        logger.fine("NumbersCursorReader positioned at item " + readerIndex);
+    }
+
+    @Override
+    public NumbersRecord readItem() throws Exception {
+        if (!cursor.next()) {
+            return null;
+        }
+
+        int item = cursor.getInt("item");
+        int quantity = cursor.getInt("quantity");
+        readerIndex = item + 1;
+
+        return new NumbersRecord(item, quantity);
+    }
+
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        NumbersCheckpointData _chkptData = new NumbersCheckpointData();
+        _chkptData.setCount(readerIndex);
+        stepCtx.getProperties().setProperty("checkpoint.index", Integer.toString(readerIndex));
+        return _chkptData;
+    }
+
+    @Override
+    public void close() throws Exception {
+        RetryConnectionHelper.cleanupConnection(connection, cursor, statement);
+    }
+}
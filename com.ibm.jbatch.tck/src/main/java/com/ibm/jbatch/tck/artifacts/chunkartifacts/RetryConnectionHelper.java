@@ -43,19 +43,21 @@ public class RetryConnectionHelper {
 
     public static final String SELECT_NUMBERS = "select item, quantity from app.numbers where item = ?";
 
+    public static final String SELECT_NUMBERS_FROM = "select item, quantity from app.numbers where item >= ? order by item";
+
 
     /*
      * Connection where autoCommit defaults to true unless we are in a global tran where it gets ignored
      */
     public static Connection getConnection(DataSource dataSource) throws SQLException {
 
-        Connection conn = dataSource.getConnection();
+        Connection conn = ConnectionPool.isEnabled() ? ConnectionPool.getConnection(dataSource) : dataSource.getConnection();
         return conn;
     }
 
 
     public static Connection getConnection(DataSource dataSource, boolean autoCommit) throws SQLException {
-        Connection conn = dataSource.getConnection();
+        Connection conn = ConnectionPool.isEnabled() ? ConnectionPool.getConnection(dataSource) : dataSource.getConnection();
         conn.setAutoCommit(autoCommit);
 
         return conn;
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.artifacts.reusable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets a test know that a long-running batchlet (or every partition of one) has actually started
+ * running, so that it can issue a stop right away instead of sleeping for a fixed time first.
+ * <p>
+ * Signals are keyed by job execution id, which is the same for all the partitions of a step.
+ * They are dropped once the test has waited for them, or once the batchlet is done, whichever comes first.
+ */
+public class BatchletReadinessSignal {
+
+    private static final ConcurrentHashMap<Long, Semaphore> runningBatchlets = new ConcurrentHashMap<Long, Semaphore>();
+
+    private BatchletReadinessSignal() {
+    }
+
+    private static Semaphore permitsFor(long executionId) {
+        return runningBatchlets.computeIfAbsent(executionId, id -> new Semaphore(0));
+    }
+
+    /**
+     * Called by the batchlet, from process(), once it is running.
+     *
+     * @param executionId job execution id
+     */
+    public static void signalRunning(long executionId) {
+        permitsFor(executionId).release();
+    }
+
+    /**
+     * Called by the batchlet, when process() ends.  The tests waiting for a signal let the batchlet run until they
+     * stop it, so by then any signal still kept was one nobody waits for.
+     *
+     * @param executionId job execution id
+     */
+    public static void clear(long executionId) {
+        runningBatchlets.remove(executionId);
+    }
+
+    /**
+     * Called by the test, to wait for the given number of batchlets (e.g. one per partition) to be running.
+     *
+     * @param executionId   job execution id
+     * @param count         number of running batchlets to wait for
+     * @param timeoutMillis maximum time to wait
+     * @return true if all of them signalled in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static boolean awaitRunning(long executionId, int count, long timeoutMillis) throws InterruptedException {
+        try {
+            return permitsFor(executionId).tryAcquire(count, timeoutMillis, TimeUnit.MILLISECONDS);
+        } finally {
+            runningBatchlets.remove(executionId);
+        }
+    }
+}
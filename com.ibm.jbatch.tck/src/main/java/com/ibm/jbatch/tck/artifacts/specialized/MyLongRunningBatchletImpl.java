@@ -27,6 +27,7 @@ import jakarta.batch.runtime.context.JobContext;
 import jakarta.batch.runtime.context.StepContext;
 import jakarta.inject.Inject;
 
+import com.ibm.jbatch.tck.artifacts.reusable.BatchletReadinessSignal;
 import com.ibm.jbatch.tck.artifacts.reusable.StopOnBulletinBoardTestData;
 
 // NOTE:  We do NOT use the default @Named value in this special case, like we usually do.
@@ -94,6 +95,17 @@ public class MyLongRunningBatchletImpl extends AbstractBatchlet {
 
         this.begin();
 
+        // Tests waiting to issue a stop can go ahead now
+        BatchletReadinessSignal.signalRunning(jobCtx.getExecutionId());
+        try {
+            return runUntilStoppedOrDone();
+        } finally {
+            BatchletReadinessSignal.clear(jobCtx.getExecutionId());
+        }
+    }
+
+    private String runUntilStoppedOrDone() {
+
         int i = 0;
         int numTimesToRun = 500;
         boolean maxTimesReached = false;
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.polling;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Logger;
+
+/**
+ * Hand-off point between the batch runtime and {@link TCKNotifyingExecutionWaiterFactory}.
+ * <p>
+ * This is the hook an implementation calls, from its own job end callback, to wake up
+ * any waiter for the execution; the TCK itself never calls {@link #jobEnded(long)}.  Only waiting executions are tracked: a notification
+ * arriving before the waiter registers is dropped, which is why the waiter checks the
+ * execution status once after registering, before it starts blocking.
+ */
+public final class JobEndNotifier {
+
+    private final static Logger logger = Logger.getLogger(JobEndNotifier.class.getName());
+
+    private static final ConcurrentHashMap<Long, CountDownLatch> jobEndLatches = new ConcurrentHashMap<Long, CountDownLatch>();
+
+    private JobEndNotifier() {
+    }
+
+    /**
+     * Signal that the given job execution has ended (or is about to end).
+     * <p>
+     * Note this does not have to be called after the final batch status has been persisted,
+     * waiters still confirm the final status through JobOperator.getJobExecution.
+     *
+     * @param executionId job execution id
+     */
+    public static void jobEnded(long executionId) {
+        logger.fine("Received job end notification for executionId = " + executionId);
+        CountDownLatch latch = jobEndLatches.remove(executionId);
+        if (latch != null) {
+            latch.countDown();
+        } else {
+            logger.finer("No waiter registered for executionId = " + executionId);
+        }
+    }
+
+    /**
+     * Registers a waiter for the given job execution; it must call {@link #release(long, CountDownLatch)} when done.
+     *
+     * @return latch counted down by the next {@link #jobEnded(long)} for the execution
+     */
+    static CountDownLatch latchFor(long executionId) {
+        return jobEndLatches.computeIfAbsent(executionId, id -> new CountDownLatch(1));
+    }
+
+    static void release(long executionId, CountDownLatch latch) {
+        jobEndLatches.remove(executionId, latch);
+    }
+}
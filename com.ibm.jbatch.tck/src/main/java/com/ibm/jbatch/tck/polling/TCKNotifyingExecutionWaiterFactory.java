@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.polling;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.operations.JobSecurityException;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.JobExecution;
+
+import com.ibm.jbatch.tck.spi.JobExecutionTimeoutException;
+import com.ibm.jbatch.tck.spi.JobExecutionWaiter;
+import com.ibm.jbatch.tck.spi.JobExecutionWaiterFactory;
+
+/**
+ * Alternative implementation of the TCK "porting package"
+ * JobExecutionWaiterFactory SPI, returning as soon as the job is known to have ended.
+ * <p>
+ * The waiter blocks until the implementation calls {@link JobEndNotifier#jobEnded(long)} from
+ * its own job end callback, and then polls at a short interval only until the final status is
+ * visible through the JobOperator.  The TCK itself never sends this notification, so without
+ * such a callback it simply polls at the same interval as {@link TCKPollingExecutionWaiterFactory}.
+ * <p>
+ * To use it, set the "tck.execution.waiter.factory" system property to the name of this class.
+ */
+public class TCKNotifyingExecutionWaiterFactory implements JobExecutionWaiterFactory {
+
+    private final static String sourceClass = TCKNotifyingExecutionWaiterFactory.class.getName();
+    private final static Logger logger = Logger.getLogger(sourceClass);
+
+    private final int FALLBACK_POLL_INTERVAL = 100; // .1 second
+    // afterJob() runs before the final status is persisted, so there may be a short gap
+    private final int NOTIFIED_POLL_INTERVAL = 5;
+
+    /**
+     * @param executionId job execution id
+     * @param jobOp       JobOperator
+     * @param timeout     In milliseconds
+     * @return JobExecutionWaiter
+     */
+    @Override
+    public JobExecutionWaiter createWaiter(long executionId, JobOperator jobOp, long timeout) {
+        return new TCKNotifyingExecutionWaiter(executionId, jobOp, timeout);
+    }
+
+    private class TCKNotifyingExecutionWaiter implements JobExecutionWaiter {
+
+        private long executionId;
+        private JobOperator jobOp;
+        private long timeout;
+
+        private TCKNotifyingExecutionWaiter(long executionId, JobOperator jobOp, long timeout) {
+            logger.fine("Creating waiter for executionId = " + executionId + ", jobOp = " + jobOp + ", timeout = " + timeout);
+            this.executionId = executionId;
+            this.jobOp = jobOp;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public JobExecution awaitTermination() throws JobExecutionTimeoutException {
+            logger.fine("Entering awaitTermination for executionId = " + executionId);
+            JobExecution jobExecution = null;
+            CountDownLatch jobEnded = JobEndNotifier.latchFor(executionId);
+
+            long startTime = System.currentTimeMillis();
+
+            try {
+                while (true) {
+                    // Checked before blocking too, the job may have ended before jobEnded was registered
+                    jobExecution = jobOp.getJobExecution(executionId);
+                    if (TCKPollingExecutionWaiterFactory.isTerminated(jobExecution)) {
+                        break;
+                    }
+                    timeOutIfExpired(startTime, System.currentTimeMillis());
+                    if (jobEnded.getCount() > 0) {
+                        if (jobEnded.await(FALLBACK_POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+                            logger.finer("Notified of job end, check for termination.");
+                        } else {
+                            logger.finer("No notification yet, check for termination.");
+                        }
+                    } else {
+                        Thread.sleep(NOTIFIED_POLL_INTERVAL);
+                    }
+                }
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("Aborting on interrupt", e);
+            } catch (JobSecurityException e) {
+                throw new IllegalStateException("Aborting on security (authorization) exception", e);
+            } catch (NoSuchJobExecutionException e) {
+                throw new IllegalStateException("JobExecution disappeared for exec id =" + executionId);
+            } finally {
+                JobEndNotifier.release(executionId, jobEnded);
+            }
+            return jobExecution;
+        }
+
+        private void timeOutIfExpired(long startTime, long curTime) throws JobExecutionTimeoutException {
+            long diff = curTime - startTime;
+            if (diff > timeout) {
+                logger.warning("Timed out waiting for TCK Job Execution to reach terminated status.  Time elapsed (long msec) = " + diff + ", and timeout = " + timeout);
+                throw new JobExecutionTimeoutException("Timed out waiting for TCK Job Execution to reach terminated status.  Time elapsed (long msec) = " + diff + ", and timeout = " + timeout);
+            }
+        }
+    }
+}
@@ -24,10 +24,23 @@ import jakarta.batch.operations.NoSuchJobExecutionException;
 import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.JobExecution;
 import java.lang.IllegalStateException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.ibm.jbatch.tck.spi.JobExecutionGroupWaiter;
 import com.ibm.jbatch.tck.spi.JobExecutionWaiter;
 import com.ibm.jbatch.tck.spi.JobExecutionWaiterFactory;
 import com.ibm.jbatch.tck.spi.JobExecutionTimeoutException;
@@ -39,14 +52,59 @@ import com.ibm.jbatch.tck.spi.JobExecutionTimeoutException;
  * Uses polling to repeatedly check execution results, thereby
  * waiting for completion.  Uses private inner class TCKPollingExecutionWaiter
  * to perform this.
+ * <p>
+ * By default polls at a fixed interval of 100 ms.  Setting system property
+ * <code>tck.execution.waiter.poll.mode=adaptive</code> selects an exponential backoff
+ * instead, starting at <code>tck.execution.waiter.poll.min</code> (default 1 ms) and
+ * doubling, with jitter, up to <code>tck.execution.waiter.poll.max</code> (default 500 ms).
  */
 public class TCKPollingExecutionWaiterFactory implements JobExecutionWaiterFactory {
 
     private final static String sourceClass = TCKPollingExecutionWaiterFactory.class.getName();
     private final static Logger logger = Logger.getLogger(sourceClass);
 
+    public static final String POLL_MODE_PROPERTY = "tck.execution.waiter.poll.mode";
+    public static final String POLL_MIN_PROPERTY = "tck.execution.waiter.poll.min";
+    public static final String POLL_MAX_PROPERTY = "tck.execution.waiter.poll.max";
+    public static final String POLL_MODE_FIXED = "fixed";
+    public static final String POLL_MODE_ADAPTIVE = "adaptive";
+
     private final int POLL_INTERVAL = 100; // .1 second
 
+    private final boolean adaptive = POLL_MODE_ADAPTIVE.equalsIgnoreCase(System.getProperty(POLL_MODE_PROPERTY, POLL_MODE_FIXED));
+    private final long minPollInterval = Math.max(1L, Long.getLong(POLL_MIN_PROPERTY, 1L));
+    private final long maxPollInterval = Math.max(minPollInterval, Long.getLong(POLL_MAX_PROPERTY, 500L));
+
+    // Shared by all group waiters, daemon threads so that an outstanding wait never keeps the JVM alive
+    private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+            Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "TCK polling group waiter");
+                t.setDaemon(true);
+                return t;
+            });
+
+    public TCKPollingExecutionWaiterFactory() {
+        if (adaptive) {
+            logger.fine("Using adaptive polling, minPollInterval = " + minPollInterval + ", maxPollInterval = " + maxPollInterval);
+        }
+    }
+
+    /*
+     * In adaptive mode, use "equal jitter": somewhere between half and all of the backoff,
+     * so that many waiters started together don't keep hitting the job repository at the same instant.
+     */
+    private long pollInterval(long backoff) {
+        if (!adaptive) {
+            return POLL_INTERVAL;
+        }
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
+    private long nextBackoff(long backoff) {
+        return Math.min(backoff * 2, maxPollInterval);
+    }
+
     /**
      * This implementation does no pooling of any kind, it just creates a new instance with new thread each time.
      *
@@ -60,6 +118,20 @@ public class TCKPollingExecutionWaiterFactory implements JobExecutionWaiterFacto
         return new TCKPollingExecutionWaiter(executionId, jobOp, timeout);
     }
 
+    /**
+     * Polls all the executions of the group in one shared loop.  Rather than using a thread of
+     * its own, each round of polls is run by a scheduler shared by all group waiters.
+     *
+     * @param executionIds job execution ids
+     * @param jobOp        JobOperator
+     * @param timeout      In milliseconds
+     * @return JobExecutionGroupWaiter
+     */
+    @Override
+    public JobExecutionGroupWaiter createGroupWaiter(Collection<Long> executionIds, JobOperator jobOp, long timeout) {
+        return new TCKPollingExecutionGroupWaiter(executionIds, jobOp, timeout);
+    }
+
     private class TCKPollingExecutionWaiter implements JobExecutionWaiter {
 
         private long executionId;
@@ -87,16 +159,24 @@ public class TCKPollingExecutionWaiterFactory implements JobExecutionWaiterFacto
             JobExecution jobExecution = null;
 
             long startTime = System.currentTimeMillis();
+            long backoff = minPollInterval;
+            int polls = 0;
+            long totalSleep = 0;
 
             while (true) {
                 try {
-                    logger.finer("Sleeping for " + POLL_INTERVAL);
+                    long pollInterval = pollInterval(backoff);
+                    backoff = nextBackoff(backoff);
+                    logger.finer("Sleeping for " + pollInterval);
                     long curTime = System.currentTimeMillis();
                     timeOutIfExpired(startTime, curTime);
-                    Thread.sleep(POLL_INTERVAL);
+                    Thread.sleep(pollInterval);
+                    totalSleep += pollInterval;
                     logger.finer("Wake up, check for termination.");
                     jobExecution = jobOp.getJobExecution(executionId);
+                    polls++;
                     if (isTerminated(jobExecution)) {
+                        logWaitStatistics(startTime, polls, totalSleep, pollInterval);
                         break;
                     }
                 } catch (InterruptedException e) {
@@ -110,30 +190,19 @@ public class TCKPollingExecutionWaiterFactory implements JobExecutionWaiterFacto
             return jobExecution;
         }
 
-        private boolean isTerminated(JobExecution jobExecution) {
-            boolean retVal = false;
-            BatchStatus bs = jobExecution.getBatchStatus();
-            if (terminatedStatuses.contains(bs)) {
-                logger.fine("Found terminating batch status of: " + jobExecution.getBatchStatus().name());
-                if (jobExecution.getExitStatus() != null) {
-                    logger.fine("Found exit status of: " + jobExecution.getExitStatus());
-                    retVal = true;
-                } else {
-                    logger.fine("Exit status is still 'null'.  Poll again.");
-                    retVal = false;
-                }
-            } else {
-                logger.finer("Found non-terminating batch status of: " + jobExecution.getBatchStatus().name());
-                retVal = false;
+        private void logWaitStatistics(long startTime, int polls, long totalSleep, long lastPollInterval) {
+            Level level = adaptive ? Level.INFO : Level.FINE;
+            if (logger.isLoggable(level)) {
+                logger.log(level, "Wait statistics for executionId = " + executionId + ": elapsed (msec) = " + (System.currentTimeMillis() - startTime)
+                        + ", polls = " + polls + ", total sleep (msec) = " + totalSleep + ", last poll interval (msec) = " + lastPollInterval);
             }
-            return retVal;
         }
 
-        private void timeOutIfExpired(long startTime, long curTime) {
+        private void timeOutIfExpired(long startTime, long curTime) throws JobExecutionTimeoutException {
             long diff = curTime - startTime;
             if (diff > timeout) {
                 logger.warning("Timed out waiting for TCK Job Execution to reach terminated status.  Time elapsed (long msec) = " + diff + ", and timeout = " + timeout);
-                throw new IllegalStateException("Timed out waiting for TCK Job Execution to reach terminated status.  Time elapsed (long msec) = " + diff + ", and timeout = " + timeout);
+                throw new JobExecutionTimeoutException("Timed out waiting for TCK Job Execution to reach terminated status.  Time elapsed (long msec) = " + diff + ", and timeout = " + timeout);
             } else {
                 logger.finer("Still waiting for TCK Job Execution to reach terminated status.  Time elapsed (long msec) = " + diff + ", and timeout = " + timeout);
             }
@@ -142,6 +211,129 @@ public class TCKPollingExecutionWaiterFactory implements JobExecutionWaiterFacto
 
     }
 
+    private class TCKPollingExecutionGroupWaiter implements JobExecutionGroupWaiter {
+
+        private JobOperator jobOp;
+        private long timeout;
+        private Map<Long, CompletableFuture<JobExecution>> futures = new LinkedHashMap<Long, CompletableFuture<JobExecution>>();
+        private CompletableFuture<List<JobExecution>> allFuture;
+
+        // Only touched by the poll rounds
+        private Map<Long, CompletableFuture<JobExecution>> pending;
+        private long startTime;
+        private long backoff = minPollInterval;
+        private int polls = 0;
+
+        private TCKPollingExecutionGroupWaiter(Collection<Long> executionIds, JobOperator jobOp, long timeout) {
+            logger.fine("Creating group waiter for executionIds = " + executionIds + ", jobOp = " + jobOp + ", timeout = " + timeout);
+            this.jobOp = jobOp;
+            this.timeout = timeout;
+            for (Long executionId : executionIds) {
+                futures.put(executionId, new CompletableFuture<JobExecution>());
+            }
+            allFuture = JobExecutionGroupWaiter.allOf(futures.values());
+
+            pending = new LinkedHashMap<Long, CompletableFuture<JobExecution>>(futures);
+            startTime = System.currentTimeMillis();
+            scheduleNextPoll();
+        }
+
+        @Override
+        public Map<Long, CompletableFuture<JobExecution>> getFutures() {
+            return Collections.unmodifiableMap(futures);
+        }
+
+        @Override
+        public CompletableFuture<List<JobExecution>> allTerminated() {
+            return allFuture;
+        }
+
+        /*
+         * One round of polls over the executions still pending, then reschedule.  Rounds never overlap
+         * since each is only scheduled at the end of the previous one.
+         */
+        private void poll() {
+            try {
+                Iterator<Map.Entry<Long, CompletableFuture<JobExecution>>> iter = pending.entrySet().iterator();
+                while (iter.hasNext()) {
+                    Map.Entry<Long, CompletableFuture<JobExecution>> entry = iter.next();
+                    try {
+                        JobExecution jobExecution = jobOp.getJobExecution(entry.getKey());
+                        polls++;
+                        if (isTerminated(jobExecution)) {
+                            entry.getValue().complete(jobExecution);
+                            iter.remove();
+                        }
+                    } catch (NoSuchJobExecutionException e) {
+                        entry.getValue().completeExceptionally(new IllegalStateException("JobExecution disappeared for exec id =" + entry.getKey()));
+                        iter.remove();
+                    }
+                }
+            } catch (JobSecurityException e) {
+                failAll(new IllegalStateException("Aborting on security (authorization) exception", e));
+                return;
+            } catch (Throwable t) {
+                // Anything escaping would silently end the polling, including the timeout check
+                failAll(t);
+                return;
+            }
+
+            long diff = System.currentTimeMillis() - startTime;
+            if (pending.isEmpty()) {
+                Level level = adaptive ? Level.INFO : Level.FINE;
+                if (logger.isLoggable(level)) {
+                    logger.log(level, "Wait statistics for executionIds = " + futures.keySet() + ": elapsed (msec) = " + diff + ", polls = " + polls);
+                }
+            } else if (diff > timeout) {
+                String msg = "Timed out waiting for TCK Job Executions " + pending.keySet() + " to reach terminated status.  Time elapsed (long msec) = " + diff + ", and timeout = " + timeout;
+                logger.warning(msg);
+                failAll(new JobExecutionTimeoutException(msg));
+            } else {
+                scheduleNextPoll();
+            }
+        }
+
+        private void scheduleNextPoll() {
+            long pollInterval = pollInterval(backoff);
+            backoff = nextBackoff(backoff);
+            scheduler.schedule(this::poll, pollInterval, TimeUnit.MILLISECONDS);
+        }
+
+        private void failAll(Throwable t) {
+            for (CompletableFuture<JobExecution> future : pending.values()) {
+                future.completeExceptionally(t);
+            }
+            pending.clear();
+        }
+    }
+
+    /*
+     * Terminated means:
+     *   1) BatchStatus is one of: STOPPED ,FAILED , COMPLETED, ABANDONED
+     *     AND
+     *   2) exitStatus is non-null
+     *
+     * Also used by the other waiter implementations in this package.
+     */
+    static boolean isTerminated(JobExecution jobExecution) {
+        boolean retVal = false;
+        BatchStatus bs = jobExecution.getBatchStatus();
+        if (terminatedStatuses.contains(bs)) {
+            logger.fine("Found terminating batch status of: " + jobExecution.getBatchStatus().name());
+            if (jobExecution.getExitStatus() != null) {
+                logger.fine("Found exit status of: " + jobExecution.getExitStatus());
+                retVal = true;
+            } else {
+                logger.fine("Exit status is still 'null'.  Poll again.");
+                retVal = false;
+            }
+        } else {
+            logger.finer("Found non-terminating batch status of: " + jobExecution.getBatchStatus().name());
+            retVal = false;
+        }
+        return retVal;
+    }
+
     // Full list:
     //public enum BatchStatus {STARTING, STARTED, STOPPING, STOPPED, FAILED, COMPLETED, ABANDONED }
     private static Set<BatchStatus> terminatedStatuses = new HashSet<BatchStatus>();
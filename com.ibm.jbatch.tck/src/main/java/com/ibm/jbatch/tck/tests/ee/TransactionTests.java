@@ -54,6 +54,16 @@ public class TransactionTests extends BaseJUnit5Test {
         Reporter.log("Begin test method: " + str + "<p>");
     }
 
+    /*
+     * Passes the value of system property TransactionTests.batch.insert (default "false") on to the inventoryWriter
+     * of the job_chunk_globaltran* jobs, which inserts each chunk's orders with a single JDBC batch when it's "true".
+     */
+    private static void addBatchInsertParameter(Properties jobParams) {
+        String batchInsert = System.getProperty("TransactionTests.batch.insert", "false");
+        Reporter.log("batch.insert=" + batchInsert + "<p>");
+        jobParams.put("batch.insert", batchInsert);
+    }
+
 
     /*
      * @testName: testTranRollbackRetryReadSkipRead
@@ -236,6 +246,7 @@ public class TransactionTests extends BaseJUnit5Test {
 
 
             Reporter.log("Invoke startJobAndWaitForResult<p>");
+            addBatchInsertParameter(jobParams);
             JobExecution jobExec = jobOp.startJobAndWaitForResult("job_chunk_globaltran", jobParams);
 
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + jobExec.getBatchStatus() + "<p>");
@@ -288,6 +299,7 @@ public class TransactionTests extends BaseJUnit5Test {
             jobParams.put("expected.inventory", expectedInventory.toString());
 
             Reporter.log("Invoke startJobAndWaitForResult<p>");
+            addBatchInsertParameter(jobParams);
             JobExecution jobExec = jobOp.startJobAndWaitForResult("job_chunk_globaltran", jobParams);
 
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + jobExec.getBatchStatus() + "<p>");
@@ -340,6 +352,7 @@ public class TransactionTests extends BaseJUnit5Test {
 
 
             Reporter.log("Invoke startJobAndWaitForResult<p>");
+            addBatchInsertParameter(jobParams);
             TCKJobExecutionWrapper jobExec = jobOp.startJobAndWaitForResult("job_chunk_globaltran", jobParams);
             long jobInstanceId = jobExec.getInstanceId();
 
@@ -409,6 +422,7 @@ public class TransactionTests extends BaseJUnit5Test {
             jobParams.put("expected.inventory", expectedInventory.toString());
 
             Reporter.log("Invoke startJobAndWaitForResult<p>");
+            addBatchInsertParameter(jobParams);
             TCKJobExecutionWrapper jobExec = jobOp.startJobAndWaitForResult("job_chunk_globaltran_default", jobParams);
 
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + jobExec.getBatchStatus() + "<p>");
@@ -470,6 +484,7 @@ public class TransactionTests extends BaseJUnit5Test {
             jobParams.put("dummy.delay.seconds", dummyDelay.toString());
 
             Reporter.log("Invoke startJobAndWaitForResult<p>");
+            addBatchInsertParameter(jobParams);
             TCKJobExecutionWrapper jobExec = jobOp.startJobAndWaitForResult("job_chunk_globaltran_multiple_steps", jobParams);
 
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + jobExec.getBatchStatus() + "<p>");
@@ -543,6 +558,7 @@ public class TransactionTests extends BaseJUnit5Test {
             jobParams.put("dummy.delay.seconds", dummyDelay.toString());
 
             Reporter.log("Invoke startJobAndWaitForResult<p>");
+            addBatchInsertParameter(jobParams);
             TCKJobExecutionWrapper jobExec = jobOp.startJobAndWaitForResult("job_chunk_globaltran_multiple_steps-customCA", jobParams);
 
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + jobExec.getBatchStatus() + "<p>");
@@ -41,6 +41,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.ibm.jbatch.tck.artifacts.reusable.BatchletReadinessSignal;
 import com.ibm.jbatch.tck.utils.JobOperatorBridge;
 import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
 
@@ -431,9 +432,11 @@ public class JobOperatorTests extends BaseJUnit5Test {
             Reporter.log("Invoking startJobWithoutWaitingForResult for Execution #1<p>");
             JobExecution jobExec = jobOp.startJobWithoutWaitingForResult("job_batchlet_longrunning", jobParameters);
 
+            // Wait for the batchlet to be running, at most for the configured sleep time
             int sleepTime = Integer.parseInt(System.getProperty("JobOperatorTests.testInvokeJobWithUserStop.sleep", DEFAULT_SLEEP_TIME));
-            Reporter.log("Thread.sleep(" + sleepTime + ")<p>");
-            Thread.sleep(sleepTime);
+            Reporter.log("Wait up to " + sleepTime + " for the batchlet to be running<p>");
+            boolean running = BatchletReadinessSignal.awaitRunning(jobExec.getExecutionId(), 1, sleepTime);
+            Reporter.log("Batchlet running = " + running + "<p>");
 
             Reporter.log("Invoking stopJobAndWaitForResult for Execution #1<p>");
             jobOp.stopJobAndWaitForResult(jobExec);
@@ -559,7 +562,7 @@ public class JobOperatorTests extends BaseJUnit5Test {
      * @testName: testJobOpgetJobInstanceCount
      *
      * @assertion:  Job Operator - getJobInstanceCount
-     * @test_Strategy: Retrieve the job instance count for a known job name. Run that job.
+     * @test_Strategy: Retrieve the job instance count for a job name used only by this test. Run that job.
      *                 Retrieve the job instance count for that job again. Test that the count has increased by 1.
      * @throws Exception
      *
@@ -574,7 +577,7 @@ public class JobOperatorTests extends BaseJUnit5Test {
             int countTrackerBEFORE = 0;
 
             try {
-                countTrackerBEFORE = jobOp.getJobInstanceCount("chunksize5commitinterval5");
+                countTrackerBEFORE = jobOp.getJobInstanceCount("job_unique_get_job_instance_count");
             } catch (NoSuchJobException e) {
                 // Can continue.
             }
@@ -592,10 +595,10 @@ public class JobOperatorTests extends BaseJUnit5Test {
             jobParams.put("app.writepoints", "0,5,10,15,20,25,30");
             jobParams.put("app.commitinterval", "5");
 
-            Reporter.log("Locate job XML file: chunksize5commitinterval5.xml<p>");
+            Reporter.log("Locate job XML file: job_unique_get_job_instance_count.xml<p>");
 
             Reporter.log("Invoke startJobAndWaitForResult for execution #1<p>");
-            TCKJobExecutionWrapper execution1 = jobOp.startJobAndWaitForResult("chunksize5commitinterval5", jobParams);
+            TCKJobExecutionWrapper execution1 = jobOp.startJobAndWaitForResult("job_unique_get_job_instance_count", jobParams);
 
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + execution1.getBatchStatus() + "<p>");
             Reporter.log("execution #1 JobExecution getExitStatus()=" + execution1.getExitStatus() + "<p>");
@@ -607,7 +610,7 @@ public class JobOperatorTests extends BaseJUnit5Test {
             Reporter.log("Got Job instance id: " + jobInstanceId + "<p>");
             Reporter.log("Got Job execution id: " + lastExecutionId + "<p>");
 
-            int countTrackerAFTER = jobOp.getJobInstanceCount("chunksize5commitinterval5");
+            int countTrackerAFTER = jobOp.getJobInstanceCount("job_unique_get_job_instance_count");
 
             assertWithMessage("job count for job1 increased by 1", 1, countTrackerAFTER - countTrackerBEFORE);
 
@@ -691,7 +694,7 @@ public class JobOperatorTests extends BaseJUnit5Test {
      *
      * @assertion:  Job Operator - getJobInstances
      * @test_Strategy: start a job 10 times which will ensure at least one job instance known to the runtime.
-     *                 Retrieve a list of job instance ids for the job name just started. Ask for the first 200 found.
+     *                 Retrieve a list of job instance ids for the job name just started, which is used only by this test. Ask for the first 200 found.
      *                 Test that size grows by 10.
      * @throws Exception
      *
@@ -708,8 +711,8 @@ public class JobOperatorTests extends BaseJUnit5Test {
             int countTrackerAFTER = 0;
 
             try {
-                countTrackerBEFORE = jobOp.getJobInstanceCount("chunksize5commitinterval5");
-                Reporter.log("Before test ran the JobInstance count for chunksize5commitinterval5 was " + countTrackerBEFORE + "<p>");
+                countTrackerBEFORE = jobOp.getJobInstanceCount("job_unique_get_job_instances");
+                Reporter.log("Before test ran the JobInstance count for job_unique_get_job_instances was " + countTrackerBEFORE + "<p>");
             } catch (NoSuchJobException e) {
                 Reporter.log("Not an error, but just the first time executing this job <p>");
             }
@@ -727,17 +730,17 @@ public class JobOperatorTests extends BaseJUnit5Test {
             jobParams.put("app.writepoints", "0,5,10,15,20,25,30");
             jobParams.put("app.commitinterval", "5");
 
-            Reporter.log("Locate job XML file: chunksize5commitinterval5.xml<p>");
+            Reporter.log("Locate job XML file: job_unique_get_job_instances.xml<p>");
 
             Reporter.log("Invoke startJobAndWaitForResult for execution #1<p>");
             for (int i = 0; i < submitTimes; i++) {
-                jobOp.startJobWithoutWaitingForResult("chunksize5commitinterval5", jobParams);
+                jobOp.startJobWithoutWaitingForResult("job_unique_get_job_instances", jobParams);
             }
 
             List<JobInstance> jobInstances = null;
             try {
-                jobInstances = jobOp.getJobInstances("chunksize5commitinterval5", 0, 10);
-                countTrackerAFTER = jobOp.getJobInstanceCount("chunksize5commitinterval5");
+                jobInstances = jobOp.getJobInstances("job_unique_get_job_instances", 0, 10);
+                countTrackerAFTER = jobOp.getJobInstanceCount("job_unique_get_job_instances");
                 assertWithMessage("Check that we see: " + submitTimes + " new submissions",
                         submitTimes, countTrackerAFTER - countTrackerBEFORE);
             } catch (NoSuchJobException noJobEx) {
@@ -931,10 +934,10 @@ public class JobOperatorTests extends BaseJUnit5Test {
             jobParams.put("app.writepoints", "0,5,10,15,20,25,30");
             jobParams.put("app.commitinterval", "5");
 
-            Reporter.log("Locate job XML file: chunksize5commitinterval5.xml<p>");
+            Reporter.log("Locate job XML file: job_unique_get_job_instances_paging.xml<p>");
 
             Reporter.log("Invoke startJobAndWaitForResult for execution #1<p>");
-            JobExecution execution1 = jobOp.startJobAndWaitForResult("chunksize5commitinterval5", jobParams);
+            JobExecution execution1 = jobOp.startJobAndWaitForResult("job_unique_get_job_instances_paging", jobParams);
 
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + execution1.getBatchStatus() + "<p>");
             Reporter.log("execution #1 JobExecution getExitStatus()=" + execution1.getExitStatus() + "<p>");
@@ -955,28 +958,28 @@ public class JobOperatorTests extends BaseJUnit5Test {
             jobParams.put("app.commitinterval", "5");
 
             Reporter.log("Invoke startJobAndWaitForResult for execution #2<p>");
-            JobExecution execution2 = jobOp.startJobAndWaitForResult("chunksize5commitinterval5", jobParams);
+            JobExecution execution2 = jobOp.startJobAndWaitForResult("job_unique_get_job_instances_paging", jobParams);
             Reporter.log("execution #2 JobExecution getBatchStatus()=" + execution1.getBatchStatus() + "<p>");
             Reporter.log("execution #2 JobExecution getExitStatus()=" + execution1.getExitStatus() + "<p>");
             assertWithMessage("Testing execution #2", BatchStatus.COMPLETED, execution2.getBatchStatus());
             assertWithMessage("Testing execution #2", "COMPLETED", execution2.getExitStatus());
 
             Reporter.log("Invoke startJobAndWaitForResult for execution #3<p>");
-            JobExecution execution3 = jobOp.startJobAndWaitForResult("chunksize5commitinterval5", jobParams);
+            JobExecution execution3 = jobOp.startJobAndWaitForResult("job_unique_get_job_instances_paging", jobParams);
             Reporter.log("execution #3 JobExecution getBatchStatus()=" + execution1.getBatchStatus() + "<p>");
             Reporter.log("execution #3 JobExecution getExitStatus()=" + execution1.getExitStatus() + "<p>");
             assertWithMessage("Testing execution #3", BatchStatus.COMPLETED, execution3.getBatchStatus());
             assertWithMessage("Testing execution #3", "COMPLETED", execution3.getExitStatus());
 
             Reporter.log("Invoke startJobAndWaitForResult for execution #4<p>");
-            JobExecution execution4 = jobOp.startJobAndWaitForResult("chunksize5commitinterval5", jobParams);
+            JobExecution execution4 = jobOp.startJobAndWaitForResult("job_unique_get_job_instances_paging", jobParams);
             Reporter.log("execution #4 JobExecution getBatchStatus()=" + execution1.getBatchStatus() + "<p>");
             Reporter.log("execution #4 JobExecution getExitStatus()=" + execution1.getExitStatus() + "<p>");
             assertWithMessage("Testing execution #4", BatchStatus.COMPLETED, execution4.getBatchStatus());
             assertWithMessage("Testing execution #4", "COMPLETED", execution4.getExitStatus());
 
-            List<JobInstance> jobInstances012 = jobOp.getJobInstances("chunksize5commitinterval5", 0, 3);
-            List<JobInstance> jobInstances123 = jobOp.getJobInstances("chunksize5commitinterval5", 1, 3);
+            List<JobInstance> jobInstances012 = jobOp.getJobInstances("job_unique_get_job_instances_paging", 0, 3);
+            List<JobInstance> jobInstances123 = jobOp.getJobInstances("job_unique_get_job_instances_paging", 1, 3);
 
             for (int i = 0; i < 3; i++) {
                 logger.fine("AJM: instance id012[" + i + "] = " + jobInstances012.get(i).getInstanceId());
@@ -1023,13 +1026,13 @@ public class JobOperatorTests extends BaseJUnit5Test {
             jobParams.put("app.timeinterval", timeinterval);
 
             Reporter.log("Invoke startJobWithoutWaitingForResult for execution #1<p>");
-            JobExecution execution1 = jobOp.startJobWithoutWaitingForResult("job_batchlet_step_listener", jobParams);
+            JobExecution execution1 = jobOp.startJobWithoutWaitingForResult("job_unique_get_running_executions", jobParams);
 
             Properties newJobParameters = new Properties();
             newJobParameters.put("app.timeinterval", timeinterval);
             Reporter.log("Invoke startJobWithoutWaitingForResult<p>");
 
-            JobExecution exec = jobOp.startJobWithoutWaitingForResult("job_batchlet_step_listener", newJobParameters);
+            JobExecution exec = jobOp.startJobWithoutWaitingForResult("job_unique_get_running_executions", newJobParameters);
 
             // Sleep to give the runtime the chance to start the job.  The job has a delay built into the stepListener afterStep()
             // so we aren't worried about the job finishing early leaving zero running executions.
@@ -1037,8 +1040,10 @@ public class JobOperatorTests extends BaseJUnit5Test {
             Reporter.log("Thread.sleep(" + sleepTime + ")<p>");
             Thread.sleep(sleepTime);
 
-            List<Long> jobExecutions = jobOp.getRunningExecutions("job_batchlet_step_listener");
+            List<Long> jobExecutions = jobOp.getRunningExecutions("job_unique_get_running_executions");
             assertWithMessage("Found job instances in the RUNNING state", jobExecutions.size() > 0);
+            assertWithMessage("Found one of the executions started by this test in the RUNNING state",
+                    jobExecutions.contains(execution1.getExecutionId()) || jobExecutions.contains(exec.getExecutionId()));
 
         } catch (Exception e) {
             handleException(METHOD, e);
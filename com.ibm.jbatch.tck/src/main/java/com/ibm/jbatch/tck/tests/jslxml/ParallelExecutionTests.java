@@ -34,6 +34,7 @@ import ee.jakarta.tck.batch.util.Reporter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.ibm.jbatch.tck.artifacts.reusable.BatchletReadinessSignal;
 import com.ibm.jbatch.tck.utils.JobOperatorBridge;
 import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
 
@@ -142,10 +143,11 @@ public class ParallelExecutionTests extends BaseJUnit5Test {
             Reporter.log("Invoke startJobWithoutWaitingForResult<p>");
             JobExecution jobExecution = jobOp.startJobWithoutWaitingForResult("job_batchlet_longrunning_partitioned", overrideJobParams);
 
-            //Sleep long enough for parallel steps to fan out
+            //Wait for the parallel steps to fan out, i.e. for all 4 partitions to be running, at most for the configured sleep time
             int sleepTime = Integer.parseInt(System.getProperty("ParallelExecutionTests.testStopRunningPartitionedStep.sleep", TIME_TO_SLEEP_BEFORE_ISSUING_STOP));
-            Reporter.log("Sleep for " + TIME_TO_SLEEP_BEFORE_ISSUING_STOP);
-            Thread.sleep(sleepTime);
+            Reporter.log("Wait up to " + sleepTime + " for all partitions to be running<p>");
+            boolean allRunning = BatchletReadinessSignal.awaitRunning(jobExecution.getExecutionId(), 4, sleepTime);
+            Reporter.log("All partitions running = " + allRunning + "<p>");
 
 
             Reporter.log("Invoke stopJobAndWaitForResult<p>");
@@ -186,10 +188,11 @@ public class ParallelExecutionTests extends BaseJUnit5Test {
             Reporter.log("Invoke startJobWithoutWaitingForResult<p>");
             JobExecution origJobExecution = jobOp.startJobWithoutWaitingForResult("job_batchlet_longrunning_partitioned", jobParams);
 
-            // Sleep long enough for parallel steps to fan out
+            // Wait for the parallel steps to fan out, i.e. for all 4 partitions to be running, at most for the configured sleep time
             int sleepTime = Integer.parseInt(System.getProperty("ParallelExecutionTests.testStopRestartRunningPartitionedStep.sleep", TIME_TO_SLEEP_BEFORE_ISSUING_STOP));
-            Reporter.log("Sleep for " + TIME_TO_SLEEP_BEFORE_ISSUING_STOP);
-            Thread.sleep(sleepTime);
+            Reporter.log("Wait up to " + sleepTime + " for all partitions to be running<p>");
+            boolean allRunning = BatchletReadinessSignal.awaitRunning(origJobExecution.getExecutionId(), 4, sleepTime);
+            Reporter.log("All partitions running = " + allRunning + "<p>");
 
             Reporter.log("Invoke stopJobAndWaitForResult<p>");
             jobOp.stopJobAndWaitForResult(origJobExecution);
@@ -31,6 +31,7 @@ import ee.jakarta.tck.batch.util.Reporter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.ibm.jbatch.tck.artifacts.reusable.BatchletReadinessSignal;
 import com.ibm.jbatch.tck.utils.JobOperatorBridge;
 import com.ibm.jbatch.tck.utils.TCKJobExecutionWrapper;
 
@@ -74,9 +75,11 @@ public class StopOrFailOnExitStatusWithRestartTests extends BaseJUnit5Test {
             long execID = execution1.getExecutionId();
             Reporter.log("StopRestart: Started job with execId=" + execID + "<p>");
 
+            // Wait for the batchlet to be running, at most for the configured sleep time
             int sleepTime = Integer.parseInt(System.getProperty("StopOrFailOnExitStatusWithRestartTests.testInvokeJobWithUserStop.sleep", DEFAULT_SLEEP_TIME));
-            Reporter.log("Sleep " + sleepTime + "<p>");
-            Thread.sleep(sleepTime);
+            Reporter.log("Wait up to " + sleepTime + " for the batchlet to be running<p>");
+            boolean running = BatchletReadinessSignal.awaitRunning(execID, 1, sleepTime);
+            Reporter.log("Batchlet running = " + running + "<p>");
 
             BatchStatus exec1BatchStatus = execution1.getBatchStatus();
             Reporter.log("execution #1 JobExecution getBatchStatus()=" + exec1BatchStatus + "<p>");
@@ -27,8 +27,6 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import jakarta.inject.Named;
-
 /**
  * This class is not needed at all by the executor of the TCK.   It
  * is used to generate the META-INF/batch.xml associated with the
@@ -93,27 +91,21 @@ public class BatchXMLGenerator {
         return retVal;
     }
 
-    private void processClass(String qualifiedClassName) {
+    private void processClass(ClassFileScanner scanner, String qualifiedClassName) {
         if (logger.isLoggable(Level.FINE)) {
             logger.fine("Processing class: " + qualifiedClassName);
         }
 
         String namedAnnotationValue = null;
-        Class<?> artifactClass = null;
-        try {
-            artifactClass = Class.forName(qualifiedClassName);
-
-            boolean isBatchArtifact = isBatchArtifact(artifactClass);
+        ClassFileScanner.ClassInfo classInfo = scanner.getClassInfo(qualifiedClassName);
+        if (classInfo != null) {
+            boolean isBatchArtifact = scanner.isBatchArtifact(qualifiedClassName);
             if (!isBatchArtifact) {
                 return;
             }
-            Named namedAnnotation = artifactClass.getAnnotation(Named.class);
-            if (namedAnnotation != null) {
-                namedAnnotationValue = namedAnnotation.value();
-            }
-        } catch (ClassNotFoundException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+            namedAnnotationValue = classInfo.getNamedValue();
+        } else {
+            logger.warning("No class file found for class: " + qualifiedClassName);
             // Continue and use classname-based defaulting
         }
 
@@ -142,33 +134,6 @@ public class BatchXMLGenerator {
     }
 
 
-    private boolean isBatchArtifact(Class artifactClass) {
-        // logger.fine("Entering isBatchArtifact for class: " + artifactClass == null ? "<null>" : artifactClass.getCanonicalName());
-
-        if (artifactClass == null) {
-            logger.fine("End of the line, returning false.");
-            return false;
-        }
-
-        //
-        // All batch artifacts implement an API interface.
-        //
-        Class[] interfaces = artifactClass.getInterfaces();
-        if (interfaces.length == 0) {
-            logger.fine("No batch interfaces found for class: " + artifactClass.getCanonicalName() + ", since it doesn't implement any interfaces. Will try superclass (if one exists).");
-            return isBatchArtifact(artifactClass.getSuperclass());
-        }
-        for (Class interfaze : interfaces) {
-            if (interfaze.getCanonicalName().startsWith("jakarta.batch")) {
-                logger.fine("Found a batch interface found for class: " + artifactClass.getCanonicalName() + ".  Continuing to add this entry to batch.xml");
-                return true;
-            }
-        }
-        logger.fine("No batch interfaces found for class: " + artifactClass.getCanonicalName() + ".  Will try superclass (if one exists).");
-        return isBatchArtifact(artifactClass.getSuperclass());
-    }
-
-
     private static List<String> findClasses(final String dir, final String prefix) {
         File directory = new File(dir, prefix);
         logger.info("Searching : " + directory);
@@ -241,8 +206,12 @@ public class BatchXMLGenerator {
 
         List<String> classList = BatchXMLGenerator.findClasses(srcDir, startSearchAt);
 
+        // Read the class files rather than loading the classes, so that no static initializer runs
+        ClassFileScanner scanner = new ClassFileScanner(BatchXMLGenerator.class.getClassLoader());
+        scanner.scan(new File(srcDir), classList);
+
         for (String className : classList) {
-            bxg.processClass(className);
+            bxg.processClass(scanner, className);
         }
 
         bxg.writeBatchXML(batchXMLDir);
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.utils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import jakarta.inject.Named;
+
+/**
+ * Reads the class hierarchy and <code>@Named</code> values of classes straight from their class files, without
+ * loading or initializing the classes.  The classes under a directory are read in parallel in one pass;
+ * superclasses outside of it are read on demand from the class files found by the given class loader.
+ */
+class ClassFileScanner {
+
+    private final static Logger logger = Logger.getLogger(ClassFileScanner.class.getName());
+
+    private static final String NAMED_DESCRIPTOR = "L" + Named.class.getName().replace('.', '/') + ";";
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final ClassLoader classLoader;
+
+    // keyed by binary class name, empty if there is no class file for the class
+    private final Map<String, Optional<ClassInfo>> classes = new ConcurrentHashMap<String, Optional<ClassInfo>>();
+
+    ClassFileScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Reads the class files of the given classes, found under the given directory.
+     */
+    void scan(final File dir, List<String> classNames) {
+        classNames.parallelStream().forEach(className -> {
+            File classFile = new File(dir, className.replace('.', File.separatorChar) + ".class");
+            try (InputStream in = Files.newInputStream(classFile.toPath())) {
+                classes.put(className, Optional.of(read(in)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Couldn't read class file " + classFile, e);
+            }
+        });
+    }
+
+    /**
+     * @return the class read by {@link #scan}, or read now through the class loader, or null if there's no class file
+     */
+    ClassInfo getClassInfo(String className) {
+        return classes.computeIfAbsent(className, name -> {
+            try (InputStream in = classLoader.getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    logger.fine("No class file found for class: " + name);
+                    return Optional.empty();
+                }
+                return Optional.of(read(in));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Couldn't read class file of " + name, e);
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * All batch artifacts implement an API interface, so this looks for an interface in a <code>jakarta.batch</code>
+     * package among those implemented directly by the class or by one of its superclasses.
+     */
+    boolean isBatchArtifact(String className) {
+        for (String name = className; name != null; ) {
+            ClassInfo classInfo = getClassInfo(name);
+            if (classInfo == null) {
+                return false;
+            }
+            for (String interfaze : classInfo.getInterfaces()) {
+                if (interfaze.startsWith("jakarta.batch")) {
+                    logger.fine("Found a batch interface for class: " + className + " implemented by: " + name);
+                    return true;
+                }
+            }
+            name = classInfo.getSuperclass();
+        }
+        logger.fine("No batch interfaces found for class: " + className);
+        return false;
+    }
+
+    /**
+     * Parses as much of the class file as needed: the constant pool, the class and interface names,
+     * and the class attributes, skipping the fields and methods.
+     */
+    static ClassInfo read(InputStream classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int constantPoolCount = in.readUnsignedShort();
+        Object[] constantPool = new Object[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    constantPool[i] = in.readUTF();
+                    break;
+                case 7: // Class, holding the index of its name
+                    constantPool[i] = in.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.readUnsignedShort();
+                    break;
+                case 15: // MethodHandle
+                    in.readUnsignedByte();
+                    in.readUnsignedShort();
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.readInt();
+                    break;
+                case 5: // Long
+                case 6: // Double, both taking two entries
+                    in.readLong();
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        String className = className(constantPool, in.readUnsignedShort());
+        int superclassIndex = in.readUnsignedShort();
+        String superclass = superclassIndex == 0 ? null : className(constantPool, superclassIndex);
+        int interfacesCount = in.readUnsignedShort();
+        List<String> interfaces = new ArrayList<String>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            interfaces.add(className(constantPool, in.readUnsignedShort()));
+        }
+
+        skipMembers(in); // fields
+        skipMembers(in); // methods
+
+        String namedValue = null;
+        int attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = (String) constantPool[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                int annotationsCount = in.readUnsignedShort();
+                for (int j = 0; j < annotationsCount; j++) {
+                    String value = readAnnotation(in, constantPool);
+                    if (value != null) {
+                        namedValue = value;
+                    }
+                }
+            } else {
+                skip(in, length);
+            }
+        }
+        return new ClassInfo(className, superclass, interfaces, namedValue);
+    }
+
+    private static String className(Object[] constantPool, int classIndex) {
+        return ((String) constantPool[(Integer) constantPool[classIndex]]).replace('/', '.');
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.readUnsignedShort(); // access flags
+            in.readUnsignedShort(); // name
+            in.readUnsignedShort(); // descriptor
+            int attributesCount = in.readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                in.readUnsignedShort(); // name
+                skip(in, in.readInt());
+            }
+        }
+    }
+
+    private static void skip(DataInputStream in, int length) throws IOException {
+        while (length > 0) {
+            int skipped = in.skipBytes(length);
+            if (skipped <= 0) {
+                throw new EOFException("Truncated class file");
+            }
+            length -= skipped;
+        }
+    }
+
+    /**
+     * @return the value of the annotation if it's a <code>@Named</code> with a value, null otherwise
+     */
+    private static String readAnnotation(DataInputStream in, Object[] constantPool) throws IOException {
+        String type = (String) constantPool[in.readUnsignedShort()];
+        String value = null;
+        int pairsCount = in.readUnsignedShort();
+        for (int i = 0; i < pairsCount; i++) {
+            String elementName = (String) constantPool[in.readUnsignedShort()];
+            if (NAMED_DESCRIPTOR.equals(type) && "value".equals(elementName)) {
+                in.readUnsignedByte(); // tag, always 's' for a String
+                value = (String) constantPool[in.readUnsignedShort()];
+            } else {
+                skipElementValue(in, constantPool);
+            }
+        }
+        return NAMED_DESCRIPTOR.equals(type) ? (value != null ? value : "") : null;
+    }
+
+    private static void skipElementValue(DataInputStream in, Object[] constantPool) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e': // enum constant: type and name
+                in.readUnsignedShort();
+                in.readUnsignedShort();
+                break;
+            case '@':
+                readAnnotation(in, constantPool);
+                break;
+            case '[':
+                int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue(in, constantPool);
+                }
+                break;
+            default: // constant or class
+                in.readUnsignedShort();
+        }
+    }
+
+    /**
+     * What the scanner reads from a class file.  Names are binary names, as in <code>Class.getName()</code>.
+     */
+    static class ClassInfo {
+
+        private final String name;
+        private final String superclass;
+        private final List<String> interfaces;
+        private final String namedValue;
+
+        ClassInfo(String name, String superclass, List<String> interfaces, String namedValue) {
+            this.name = name;
+            this.superclass = superclass;
+            this.interfaces = Collections.unmodifiableList(interfaces);
+            this.namedValue = namedValue;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the superclass, <code>java.lang.Object</code> for interfaces, or null for <code>java.lang.Object</code> itself
+         */
+        String getSuperclass() {
+            return superclass;
+        }
+
+        List<String> getInterfaces() {
+            return interfaces;
+        }
+
+        /**
+         * @return the value of the class's <code>@Named</code> annotation, empty if it has none, or null if the class isn't annotated
+         */
+        String getNamedValue() {
+            return namedValue;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.utils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.function.IntBinaryOperator;
+import java.util.logging.Logger;
+
+/**
+ * Replaces the contents of the TCK application tables (Numbers, Orders and Inventory, as created by the
+ * <code>ddls/*.sql</code> scripts) with generated data sets of any size.
+ * <p>
+ * Only the table (and index) sizes the chunk and transaction tests run against change, not the amount of data they
+ * process: their jobs still read the same few items, e.g. <code>numbersReader</code> stops after item 5, and
+ * <code>inventoryInitWriter</code> resets item 1 of the Inventory table and deletes all orders.
+ * <ul>
+ *  <li>Numbers - items 1..n, each of the same quantity (10 in the DDL scripts)
+ *  <li>Inventory - items 1..n, each of the same quantity (a single item of quantity 100 in the DDL scripts)
+ *  <li>Orders - n single-unit orders, spread evenly over the inventory items
+ * </ul>
+ * Rows are inserted several to a statement on databases that support multi-row <code>VALUES</code> lists, and the
+ * statements are sent in JDBC batches, committing after each batch.
+ * <p>
+ * Usage: <code>DataSetGenerator &lt;database&gt; &lt;jdbcUrl&gt; [&lt;user&gt; &lt;password&gt;]</code>, with the JDBC driver
+ * on the classpath, where the database is named as in the DDL script names (e.g. <code>derby</code>, <code>mssqlserver</code>).
+ * Table sizes are read from system properties <code>tck.datagen.numbers.rows</code>, <code>tck.datagen.numbers.quantity</code>,
+ * <code>tck.datagen.inventory.rows</code>, <code>tck.datagen.inventory.quantity</code> and <code>tck.datagen.orders.rows</code>;
+ * <code>tck.datagen.batch.size</code> sets the number of statements per batch.
+ */
+public class DataSetGenerator {
+
+    private final static Logger logger = Logger.getLogger(DataSetGenerator.class.getName());
+
+    /**
+     * The databases for which the TCK ships a DDL script.
+     */
+    public enum Database {
+        DERBY(100, false),
+        DB2(100, false),
+        // No multi-row VALUES lists, and the Orders table has no identity column (Oracle fills it from a trigger only when null)
+        ORACLE(1, true),
+        MYSQL(500, false),
+        POSTGRESQL(500, false),
+        // At most 1000 rows and 2100 parameters per statement
+        MSSQLSERVER(500, false),
+        SYBASE(1, true);
+
+        private final int rowsPerInsert;
+        private final boolean explicitOrderIDs;
+
+        private Database(int rowsPerInsert, boolean explicitOrderIDs) {
+            this.rowsPerInsert = rowsPerInsert;
+            this.explicitOrderIDs = explicitOrderIDs;
+        }
+
+        /**
+         * @param name the database as named in the DDL scripts, e.g. <code>postgresql</code>
+         */
+        public static Database forName(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Connection connection;
+    private final Database database;
+    private int batchSize = 100;
+
+    /**
+     * @param connection connection to the TCK application database; its auto-commit is turned off
+     */
+    public DataSetGenerator(Connection connection, Database database) throws SQLException {
+        this.connection = connection;
+        this.database = database;
+        connection.setAutoCommit(false);
+    }
+
+    /**
+     * @param batchSize the number of insert statements to send in each JDBC batch, and to commit together
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void populateNumbers(int rows, int quantity) throws SQLException {
+        replace("app.Numbers", "item, quantity", rows, (row, column) -> column == 0 ? row : quantity);
+    }
+
+    public void populateInventory(int rows, int quantity) throws SQLException {
+        replace("app.Inventory", "itemID, quantity", rows, (row, column) -> column == 0 ? row : quantity);
+    }
+
+    /**
+     * @param inventoryRows the number of inventory items to spread the orders over
+     */
+    public void populateOrders(int rows, int inventoryRows) throws SQLException {
+        int items = Math.max(inventoryRows, 1);
+        if (database.explicitOrderIDs) {
+            replace("app.Orders", "orderID, itemID, quantity", rows,
+                    (row, column) -> column == 0 ? row : column == 1 ? 1 + (row - 1) % items : 1);
+        } else {
+            replace("app.Orders", "itemID, quantity", rows,
+                    (row, column) -> column == 0 ? 1 + (row - 1) % items : 1);
+        }
+    }
+
+    /**
+     * Deletes all rows of the table, then inserts rows 1..rows.
+     *
+     * @param values the value of each (zero-based) column of each (one-based) row
+     */
+    private void replace(String table, String columns, int rows, IntBinaryOperator values) throws SQLException {
+        long startNanos = System.nanoTime();
+        int columnCount = columns.split(",").length;
+
+        try (Statement delete = connection.createStatement()) {
+            delete.executeUpdate("delete from " + table);
+        }
+        connection.commit();
+
+        int row = 1;
+        int rowsPerInsert = Math.min(database.rowsPerInsert, Math.max(rows, 1));
+        try (PreparedStatement insert = connection.prepareStatement(insertSQL(table, columns, columnCount, rowsPerInsert))) {
+            int batched = 0;
+            while (rows - row + 1 >= rowsPerInsert) {
+                row = setRows(insert, row, rowsPerInsert, columnCount, values);
+                insert.addBatch();
+                if (++batched == batchSize) {
+                    insert.executeBatch();
+                    connection.commit();
+                    batched = 0;
+                }
+            }
+            if (batched > 0) {
+                insert.executeBatch();
+                connection.commit();
+            }
+        }
+
+        int remaining = rows - row + 1;
+        if (remaining > 0) {
+            try (PreparedStatement insert = connection.prepareStatement(insertSQL(table, columns, columnCount, remaining))) {
+                setRows(insert, row, remaining, columnCount, values);
+                insert.executeUpdate();
+            }
+            connection.commit();
+        }
+
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        logger.info("Inserted " + rows + " rows into " + table + " in " + String.format(Locale.ROOT, "%.1f", seconds) + " s");
+    }
+
+    /**
+     * @return the row following the last one set
+     */
+    private static int setRows(PreparedStatement insert, int firstRow, int rowCount, int columnCount, IntBinaryOperator values) throws SQLException {
+        int parameter = 1;
+        for (int row = firstRow; row < firstRow + rowCount; row++) {
+            for (int column = 0; column < columnCount; column++) {
+                insert.setInt(parameter++, values.applyAsInt(row, column));
+            }
+        }
+        return firstRow + rowCount;
+    }
+
+    private static String insertSQL(String table, String columns, int columnCount, int rowCount) {
+        StringBuilder rowValues = new StringBuilder("(?");
+        for (int column = 1; column < columnCount; column++) {
+            rowValues.append(", ?");
+        }
+        rowValues.append(")");
+
+        StringBuilder sql = new StringBuilder("insert into ").append(table).append(" (").append(columns).append(") values ");
+        for (int row = 0; row < rowCount; row++) {
+            sql.append(row == 0 ? "" : ", ").append(rowValues);
+        }
+        return sql.toString();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, Integer.toString(defaultValue)).trim());
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2 && args.length != 4) {
+            throw new IllegalArgumentException("Usage: DataSetGenerator <database> <jdbcUrl> [<user> <password>]\n"
+                    + " where <database> is one of derby, db2, oracle, mysql, postgresql, mssqlserver, sybase");
+        }
+
+        Database database = Database.forName(args[0]);
+        int numbersRows = intProperty("tck.datagen.numbers.rows", 1000000);
+        int numbersQuantity = intProperty("tck.datagen.numbers.quantity", 10);
+        int inventoryRows = intProperty("tck.datagen.inventory.rows", 1);
+        int inventoryQuantity = intProperty("tck.datagen.inventory.quantity", 1000000);
+        int ordersRows = intProperty("tck.datagen.orders.rows", 1000000);
+
+        try (Connection connection = args.length == 4
+                ? DriverManager.getConnection(args[1], args[2], args[3])
+                : DriverManager.getConnection(args[1])) {
+            DataSetGenerator generator = new DataSetGenerator(connection, database);
+            generator.setBatchSize(intProperty("tck.datagen.batch.size", 100));
+            generator.populateNumbers(numbersRows, numbersQuantity);
+            generator.populateInventory(inventoryRows, inventoryQuantity);
+            generator.populateOrders(ordersRows, inventoryRows);
+        }
+    }
+}
@@ -19,8 +19,11 @@
 package com.ibm.jbatch.tck.utils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import jakarta.batch.operations.JobExecutionAlreadyCompleteException;
@@ -41,6 +44,7 @@ import jakarta.batch.runtime.StepExecution;
 
 import ee.jakarta.tck.batch.util.Reporter;
 
+import com.ibm.jbatch.tck.spi.JobExecutionGroupWaiter;
 import com.ibm.jbatch.tck.spi.JobExecutionWaiter;
 import com.ibm.jbatch.tck.spi.JobExecutionWaiterFactory;
 import com.ibm.jbatch.tck.spi.JobExecutionTimeoutException;
@@ -81,13 +85,16 @@ public class JobOperatorBridge {
     public TCKJobExecutionWrapper restartJobAndWaitForResult(long oldExecutionId, Properties restartJobParameters) throws NoSuchJobExecutionException, NoSuchJobException, JobRestartException, JobExecutionAlreadyCompleteException, JobExecutionNotMostRecentException, JobSecurityException, JobExecutionTimeoutException {
 
         JobExecution terminatedJobExecution = null;
+        WaitStatistics.Recorder recorder = WaitStatistics.newRecorder("restart");
         long newExecutionId = jobOp.restart(oldExecutionId, restartJobParameters);
 
-        JobExecutionWaiter waiter = waiterFactory.createWaiter(newExecutionId, jobOp, sleepTime);
+        JobExecutionWaiter waiter = waiterFactory.createWaiter(newExecutionId, recorder.wrap(jobOp), sleepTime);
 
         try {
             terminatedJobExecution = waiter.awaitTermination();
+            recorder.terminated(terminatedJobExecution);
         } catch (JobExecutionTimeoutException e) {
+            recorder.timedOut();
             logger.severe(TIMEOUT_MSG);
             Reporter.log(TIMEOUT_MSG);
             throw e;
@@ -127,13 +134,16 @@ public class JobOperatorBridge {
     public JobExecution stopJobAndWaitForResult(JobExecution jobExecution) throws NoSuchJobExecutionException, JobExecutionNotRunningException, JobSecurityException, JobExecutionTimeoutException {
 
         JobExecution terminatedJobExecution = null;
+        WaitStatistics.Recorder recorder = WaitStatistics.newRecorder("stop");
         jobOp.stop(jobExecution.getExecutionId());
 
-        JobExecutionWaiter waiter = waiterFactory.createWaiter(jobExecution.getExecutionId(), jobOp, sleepTime);
+        JobExecutionWaiter waiter = waiterFactory.createWaiter(jobExecution.getExecutionId(), recorder.wrap(jobOp), sleepTime);
 
         try {
             terminatedJobExecution = waiter.awaitTermination();
+            recorder.terminated(terminatedJobExecution);
         } catch (JobExecutionTimeoutException e) {
+            recorder.timedOut();
             logger.severe(TIMEOUT_MSG);
             Reporter.log(TIMEOUT_MSG);
             throw e;
@@ -145,13 +155,16 @@ public class JobOperatorBridge {
 
     public TCKJobExecutionWrapper startJobAndWaitForResult(String jobName, Properties jobParameters) throws JobStartException, NoSuchJobExecutionException, JobSecurityException, JobExecutionTimeoutException {
         JobExecution terminatedJobExecution = null;
+        WaitStatistics.Recorder recorder = WaitStatistics.newRecorder("start");
         long executionId = jobOp.start(jobName, jobParameters);
 
-        JobExecutionWaiter waiter = waiterFactory.createWaiter(executionId, jobOp, sleepTime);
+        JobExecutionWaiter waiter = waiterFactory.createWaiter(executionId, recorder.wrap(jobOp), sleepTime);
 
         try {
             terminatedJobExecution = waiter.awaitTermination();
+            recorder.terminated(terminatedJobExecution);
         } catch (JobExecutionTimeoutException e) {
+            recorder.timedOut();
             logger.severe(TIMEOUT_MSG);
             Reporter.log(TIMEOUT_MSG);
             throw e;
@@ -161,6 +174,49 @@ public class JobOperatorBridge {
     }
 
 
+    /*
+     * The asynchronous variants below start/restart/stop the job on the calling thread, so that any exception
+     * from the JobOperator is still thrown directly, and then return without waiting.  The waiting itself is
+     * done through the porting package SPI group waiter, which (in the TCK-provided implementation) uses a
+     * scheduler shared across all outstanding waits rather than tying up a thread per job.
+     */
+
+    public CompletableFuture<TCKJobExecutionWrapper> startJobAsync(String jobName, Properties jobParameters) throws JobStartException, JobSecurityException {
+        WaitStatistics.Recorder recorder = WaitStatistics.newRecorder("startAsync");
+        long executionId = jobOp.start(jobName, jobParameters);
+        return awaitTerminationAsync(executionId, recorder);
+    }
+
+    public CompletableFuture<TCKJobExecutionWrapper> restartJobAsync(long oldExecutionId, Properties restartJobParameters) throws NoSuchJobExecutionException, NoSuchJobException, JobRestartException, JobExecutionAlreadyCompleteException, JobExecutionNotMostRecentException, JobSecurityException {
+        WaitStatistics.Recorder recorder = WaitStatistics.newRecorder("restartAsync");
+        long newExecutionId = jobOp.restart(oldExecutionId, restartJobParameters);
+        return awaitTerminationAsync(newExecutionId, recorder);
+    }
+
+    public CompletableFuture<TCKJobExecutionWrapper> stopJobAsync(long executionId) throws NoSuchJobExecutionException, JobExecutionNotRunningException, JobSecurityException {
+        WaitStatistics.Recorder recorder = WaitStatistics.newRecorder("stopAsync");
+        jobOp.stop(executionId);
+        return awaitTerminationAsync(executionId, recorder);
+    }
+
+    private CompletableFuture<TCKJobExecutionWrapper> awaitTerminationAsync(long executionId, WaitStatistics.Recorder recorder) {
+        JobExecutionGroupWaiter waiter = waiterFactory.createGroupWaiter(Collections.singletonList(executionId), recorder.wrap(jobOp), sleepTime);
+
+        return waiter.getFutures().get(executionId).handle((terminatedJobExecution, t) -> {
+            if (t != null) {
+                Throwable cause = (t instanceof CompletionException && t.getCause() != null) ? t.getCause() : t;
+                if (cause instanceof JobExecutionTimeoutException) {
+                    recorder.timedOut();
+                    logger.severe(TIMEOUT_MSG);
+                    Reporter.log(TIMEOUT_MSG);
+                }
+                throw new CompletionException(cause);
+            }
+            recorder.terminated(terminatedJobExecution);
+            return new TCKJobExecutionWrapper(terminatedJobExecution, jobOp);
+        });
+    }
+
     public Properties getParameters(long executionId) throws NoSuchJobInstanceException, JobSecurityException, NoSuchJobExecutionException {
         return jobOp.getParameters(executionId);
     }
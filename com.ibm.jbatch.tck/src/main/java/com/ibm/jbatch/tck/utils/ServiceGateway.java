@@ -29,7 +29,14 @@ import com.ibm.jbatch.tck.spi.JobExecutionWaiterFactory;
 public class ServiceGateway {
     private final static Logger logger = Logger.getLogger(ServiceGateway.class.getName());
 
+    public static final String WAITER_FACTORY_PROPERTY = "tck.execution.waiter.factory";
+
     public static JobExecutionWaiterFactory getJobExecutionWaiterFactoryService() {
+        String factoryClassName = System.getProperty(WAITER_FACTORY_PROPERTY);
+        if (factoryClassName != null && !factoryClassName.trim().isEmpty()) {
+            return loadJobExecutionWaiterFactory(factoryClassName.trim());
+        }
+
         JobExecutionWaiterFactory services = null;
         ServiceLoader<JobExecutionWaiterFactory> loader =
                 ServiceLoader.load(JobExecutionWaiterFactory.class);
@@ -51,4 +58,24 @@ public class ServiceGateway {
         }
         return services;
     }
+
+    private static JobExecutionWaiterFactory loadJobExecutionWaiterFactory(String className) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ServiceGateway.class.getClassLoader();
+        }
+        JobExecutionWaiterFactory factory;
+        try {
+            factory = Class.forName(className, true, classLoader).asSubclass(JobExecutionWaiterFactory.class)
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Couldn't create the JobExecutionWaiterFactory named by system property "
+                    + WAITER_FACTORY_PROPERTY + ": " + className, e);
+        }
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Loaded JobExecutionWaiterFactory with className = " + className + " from system property " + WAITER_FACTORY_PROPERTY);
+        }
+        Reporter.log("Loaded JobExecutionWaiterFactory with className = " + className + " from system property " + WAITER_FACTORY_PROPERTY + "<p>");
+        return factory;
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.jbatch.tck.utils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import jakarta.batch.operations.JobOperator;
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * Optional statistics about the waits done by {@link JobOperatorBridge}, to help tell time spent in
+ * the runtime apart from time spent in the TCK harness.
+ * <p>
+ * Enabled by setting system property <code>tck.execution.waiter.statistics.file</code> to the path of a file, to
+ * which a summary is written when the JVM exits.  For each kind of wait (start, restart, stop) the summary has:
+ * <ul>
+ *  <li>latency - from just before the JobOperator call until the waiter returned the terminated execution
+ *  <li>polls - the number of JobOperator.getJobExecution calls made by the waiter
+ *  <li>overshoot - from the execution's end time (JobExecution.getEndTime) until the waiter returned
+ * </ul>
+ */
+public class WaitStatistics {
+
+    private final static Logger logger = Logger.getLogger(WaitStatistics.class.getName());
+
+    public static final String STATISTICS_FILE_PROPERTY = "tck.execution.waiter.statistics.file";
+
+    private static final String statisticsFile = System.getProperty(STATISTICS_FILE_PROPERTY);
+
+    private static final Map<String, OperationStatistics> statistics = new TreeMap<String, OperationStatistics>();
+
+    private static final Recorder NO_OP_RECORDER = new Recorder(null);
+
+    static {
+        if (statisticsFile != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(WaitStatistics::writeSummary, "TCK wait statistics"));
+        }
+    }
+
+    private WaitStatistics() {
+    }
+
+    public static boolean isEnabled() {
+        return statisticsFile != null;
+    }
+
+    /**
+     * Start recording one wait.  Call this before the JobOperator start/restart/stop call.
+     *
+     * @param operation kind of wait, e.g. "start"
+     * @return recorder, which does nothing if statistics are disabled
+     */
+    public static Recorder newRecorder(String operation) {
+        return isEnabled() ? new Recorder(operation) : NO_OP_RECORDER;
+    }
+
+    /**
+     * Records a single wait.
+     */
+    public static class Recorder {
+
+        private final String operation;
+        private final long submitTime = System.currentTimeMillis();
+        private final AtomicInteger polls = new AtomicInteger();
+
+        private Recorder(String operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * @param jobOp JobOperator to be passed to the waiter
+         * @return JobOperator counting the getJobExecution calls, to be passed to the waiter instead
+         */
+        public JobOperator wrap(final JobOperator jobOp) {
+            if (operation == null) {
+                return jobOp;
+            }
+            return (JobOperator) Proxy.newProxyInstance(JobOperator.class.getClassLoader(), new Class<?>[] { JobOperator.class }, (proxy, method, args) -> {
+                if (method.getName().equals("getJobExecution")) {
+                    polls.incrementAndGet();
+                }
+                try {
+                    return method.invoke(jobOp, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        public void terminated(JobExecution jobExecution) {
+            if (operation == null) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            Date endTime = jobExecution.getEndTime();
+            long overshoot = endTime == null ? -1 : Math.max(0, now - endTime.getTime());
+            synchronized (statistics) {
+                OperationStatistics stats = statistics.computeIfAbsent(operation, o -> new OperationStatistics());
+                stats.latency.record(now - submitTime);
+                stats.polls.record(polls.get());
+                if (overshoot >= 0) {
+                    stats.overshoot.record(overshoot);
+                }
+            }
+        }
+
+        public void timedOut() {
+            if (operation == null) {
+                return;
+            }
+            synchronized (statistics) {
+                statistics.computeIfAbsent(operation, o -> new OperationStatistics()).timeouts++;
+            }
+        }
+    }
+
+    private static class OperationStatistics {
+        Histogram latency = new Histogram();
+        Histogram polls = new Histogram();
+        Histogram overshoot = new Histogram();
+        int timeouts = 0;
+    }
+
+    private static void writeSummary() {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(statisticsFile), StandardCharsets.UTF_8))) {
+            synchronized (statistics) {
+                out.println("# TCK JobOperatorBridge wait statistics, percentiles within ~6%");
+                for (Map.Entry<String, OperationStatistics> entry : statistics.entrySet()) {
+                    OperationStatistics stats = entry.getValue();
+                    out.println(entry.getKey() + ": waits = " + stats.latency.getCount() + ", timeouts = " + stats.timeouts);
+                    out.println("  latency (msec)   " + stats.latency);
+                    out.println("  polls            " + stats.polls);
+                    out.println("  overshoot (msec) " + stats.overshoot);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Couldn't write wait statistics to " + statisticsFile + ": " + e);
+        }
+    }
+}
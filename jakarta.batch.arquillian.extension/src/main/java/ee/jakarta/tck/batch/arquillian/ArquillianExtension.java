@@ -31,5 +31,8 @@ public class ArquillianExtension implements LoadableExtension {
     public void register(ExtensionBuilder builder) {
         builder.service(DeploymentScenarioGenerator.class, MavenTestDependenciesDeploymentPackager.class);
         builder.service(ApplicationArchiveProcessor.class, VehicleSelectionArchiveProcessor.class);
+        if (Boolean.getBoolean(MavenTestDependenciesDeploymentPackager.PropertyKeys.SHARED_DEPLOYMENT)) {
+            builder.observer(SharedDeploymentObserver.class);
+        }
     }
 }
@@ -18,11 +18,29 @@
  */
 package ee.jakarta.tck.batch.arquillian;
 
+import ee.jakarta.tck.batch.util.vehicle.ejb.EJBVehicle;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
 import org.jboss.shrinkwrap.api.spec.EnterpriseArchive;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 
 /**
@@ -38,10 +56,13 @@ public enum DeploymentPackageType {
     }, EAR {
         @Override
         protected PackageBuilder getPackageBuilder(Archive<?> archive) {
-            throw new UnsupportedOperationException("Not supported yet.");
+            return new EarPackageBuilder(archive);
         }
     };
 
+    // JNDI name of the EJB vehicle in the EAR package, from the application and EJB module names
+    public static final String EAR_EJB_VEHICLE_JNDI_NAME = "java:global/jbatch-test-package-all/jbatch-tck-ejb-vehicle/EJBVehicle";
+
     public static DeploymentPackageType fromString(String value) {
         if (value == null || value.isEmpty()) {
             return null;
@@ -110,5 +131,137 @@ public enum DeploymentPackageType {
             return archive;
         }
     }
-    
+
+    /**
+     * Builds an EAR with the EJB vehicle in an EJB module of its own, an empty web module in which the tests are run
+     * by the Arquillian protocol, and all the artifacts, including the TCK and the rest of the util jar, as libraries,
+     * so that both modules see the TCK's job XMLs and batch artifacts. Resources go into a library jar of their own.
+     * <p>
+     * The artifacts are added as files, so they are streamed into the EAR when it's exported rather than held in heap.
+     * The modules derived from the util jar are assembled concurrently, when the EAR is built.
+     */
+    static class EarPackageBuilder implements PackageBuilder {
+
+        private static final String EJB_VEHICLE_MODULE_NAME = "jbatch-tck-ejb-vehicle.jar";
+        private static final String WEB_MODULE_NAME = "jbatch-tck-web.war";
+        private static final String RESOURCES_LIBRARY_NAME = "jbatch-tck-resources.jar";
+        private static final String EJB_VEHICLE_CLASS_ENTRY = EJBVehicle.class.getName().replace('.', '/') + ".class";
+
+        EnterpriseArchive archive;
+
+        // the util jar, whose EJB vehicle class goes into a module of its own; only when creating a new archive
+        private File utilArtifactFile = null;
+
+        public EarPackageBuilder(Archive<?> archive) {
+            if (archive == null) {
+                this.archive = ShrinkWrap.create(EnterpriseArchive.class, "jbatch-test-package-all.ear").as(EnterpriseArchive.class);
+            } else {
+                this.archive = archive.as(EnterpriseArchive.class);
+            }
+        }
+
+        @Override
+        public EarPackageBuilder addArtifact(File artifactFile) {
+            if (utilArtifactFile == null && containsEntry(artifactFile, EJB_VEHICLE_CLASS_ENTRY)) {
+                utilArtifactFile = artifactFile;
+            } else {
+                archive.addAsLibrary(artifactFile);
+            }
+            return this;
+        }
+
+        @Override
+        public EarPackageBuilder addResource(Asset resourceAsset, String resourceName) {
+            String resourcesLibraryPath = "lib/" + RESOURCES_LIBRARY_NAME;
+            if (archive.contains(resourcesLibraryPath)) {
+                archive.getAsType(JavaArchive.class, resourcesLibraryPath).addAsResource(resourceAsset, resourceName);
+            } else {
+                archive.addAsLibrary(ShrinkWrap.create(JavaArchive.class, RESOURCES_LIBRARY_NAME)
+                        .addAsResource(resourceAsset, resourceName));
+            }
+            return this;
+        }
+
+        @Override
+        public Archive<?> build() {
+            if (utilArtifactFile == null) {
+                return archive;
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                CompletableFuture<File> utilLibrary = CompletableFuture.supplyAsync(
+                        () -> copyWithoutEntry(utilArtifactFile, EJB_VEHICLE_CLASS_ENTRY), executor);
+                CompletableFuture<JavaArchive> ejbVehicleModule = CompletableFuture.supplyAsync(
+                        () -> ShrinkWrap.create(JavaArchive.class, EJB_VEHICLE_MODULE_NAME)
+                                .add(new ByteArrayAsset(readEntry(utilArtifactFile, EJB_VEHICLE_CLASS_ENTRY)), EJB_VEHICLE_CLASS_ENTRY),
+                        executor);
+                WebArchive webModule = ShrinkWrap.create(WebArchive.class, WEB_MODULE_NAME)
+                        .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+
+                archive.addAsLibrary(utilLibrary.join());
+                archive.addAsModule(ejbVehicleModule.join());
+                archive.addAsModule(webModule);
+            } catch (CompletionException e) {
+                throw new RuntimeException("Couldn't assemble the EAR modules from " + utilArtifactFile, e.getCause());
+            } finally {
+                executor.shutdown();
+            }
+            utilArtifactFile = null;
+            return archive;
+        }
+
+        private static boolean containsEntry(File jarFile, String entryName) {
+            if (!jarFile.isFile()) {
+                return false;
+            }
+            try (ZipFile zipFile = new ZipFile(jarFile)) {
+                return zipFile.getEntry(entryName) != null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static byte[] readEntry(File jarFile, String entryName) {
+            try (ZipFile zipFile = new ZipFile(jarFile);
+                    InputStream in = zipFile.getInputStream(zipFile.getEntry(entryName))) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                transfer(in, out);
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // streams the entries to a temporary file, which is then streamed into the EAR on export
+        private static File copyWithoutEntry(File jarFile, String entryName) {
+            try {
+                File copy = File.createTempFile("jbatch-tck-", "-" + jarFile.getName());
+                copy.deleteOnExit();
+                try (ZipFile zipFile = new ZipFile(jarFile);
+                        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(copy))) {
+                    for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                        if (entry.getName().equals(entryName)) {
+                            continue;
+                        }
+                        out.putNextEntry(new ZipEntry(entry.getName()));
+                        try (InputStream in = zipFile.getInputStream(entry)) {
+                            transfer(in, out);
+                        }
+                        out.closeEntry();
+                    }
+                }
+                return copy;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void transfer(InputStream in, OutputStream out) throws IOException {
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
 }
@@ -22,7 +22,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import ee.jakarta.tck.batch.arquillian.ResolvedDependencyCache.ResolvedDependency;
 import org.jboss.arquillian.container.spi.client.deployment.DeploymentDescription;
 import org.jboss.arquillian.container.test.spi.client.deployment.*;
 import org.jboss.arquillian.test.spi.TestClass;
@@ -44,6 +46,15 @@ public class MavenTestDependenciesDeploymentPackager implements DeploymentScenar
         // package type, e.g. EAR, EJBJAR, WAR. Default is WAR
         String PACKAGE = ArquillianExtension.PROPERTY_PREFIX + "packageType";
 
+        // Whether to cache the resolved dependencies on disk, between JVMs. Default is false (cached in memory only)
+        String DEPENDENCY_CACHE = ArquillianExtension.PROPERTY_PREFIX + "dependencyCache";
+
+        // Directory of the on-disk dependency cache. Default is target/jbatch-tck-dependency-cache
+        String DEPENDENCY_CACHE_DIR = ArquillianExtension.PROPERTY_PREFIX + "dependencyCacheDir";
+
+        // Whether to deploy the package once for all test classes, see SharedDeploymentObserver. Default is false
+        String SHARED_DEPLOYMENT = ArquillianExtension.PROPERTY_PREFIX + "sharedDeployment";
+
     }
 
     private List<String> groupPrefixesToIgnore = null;
@@ -52,10 +63,19 @@ public class MavenTestDependenciesDeploymentPackager implements DeploymentScenar
 
     private DeploymentPackageType deploymentPackageType = DeploymentPackageType.WAR;
 
+    private ResolvedDependencyCache dependencyCache = null;
+
+    boolean sharedDeployment = false;
+
+    // with a shared deployment, only the package built for the first test class is deployed
+    private static Archive<?> sharedArchive = null;
+
     public MavenTestDependenciesDeploymentPackager() {
         initListOfIgnoredArtifactPrefixes();
         initDeploymentPackage();
+        initDependencyCache();
         includeAppBean = Boolean.getBoolean(PropertyKeys.INCLUDE_JOBOP_APPBEAN);
+        sharedDeployment = Boolean.getBoolean(PropertyKeys.SHARED_DEPLOYMENT);
     }
 
     public List<String> getGroupPrefixesToIgnore() {
@@ -76,25 +96,44 @@ public class MavenTestDependenciesDeploymentPackager implements DeploymentScenar
 
     private Archive<?> generateDeployment() {
         String[] activeMavenProfiles = getListOfActiveMavenProfiles();
-        
-        MavenResolvedArtifact[] resolvedArtifacts = Maven.resolver().loadPomFromFile("pom.xml", activeMavenProfiles)
-                .importDependencies(ScopeType.COMPILE, ScopeType.TEST)
-                .resolve().withTransitivity().asResolvedArtifact();
+
+        List<ResolvedDependency> resolvedArtifacts =
+                dependencyCache.get("pom.xml", activeMavenProfiles, () -> resolveDependencies(activeMavenProfiles));
 
         DeploymentPackageType.PackageBuilder packageBuilder = deploymentPackageType.getPackageBuilder();
 
-        Stream.of(resolvedArtifacts)
+        resolvedArtifacts.stream()
                 .filter(this::artifactShouldntBeIgnored)
                 .filter(this::notAppBeanArtifactToIgnore)
                 .filter(artifact -> {
                     return "jar".equals(artifact.getExtension());
                 })
-                .map(MavenResolvedArtifact::asFile)
+                .map(ResolvedDependency::getFile)
                 .forEach(packageBuilder::addArtifact);
 
         return packageBuilder.build();
     }
 
+    private List<ResolvedDependency> resolveDependencies(String[] activeMavenProfiles) {
+        MavenResolvedArtifact[] resolvedArtifacts = Maven.resolver().loadPomFromFile("pom.xml", activeMavenProfiles)
+                .importDependencies(ScopeType.COMPILE, ScopeType.TEST)
+                .resolve().withTransitivity().asResolvedArtifact();
+
+        return Stream.of(resolvedArtifacts)
+                .map(artifact -> new ResolvedDependency(artifact.getCoordinate().getGroupId(),
+                        artifact.getCoordinate().getArtifactId(), artifact.getExtension(), artifact.asFile()))
+                .collect(Collectors.toList());
+    }
+
+    private Archive<?> getSharedDeployment() {
+        synchronized (MavenTestDependenciesDeploymentPackager.class) {
+            if (sharedArchive == null) {
+                sharedArchive = generateDeployment();
+            }
+            return sharedArchive;
+        }
+    }
+
     private String[] getListOfActiveMavenProfiles() {
         String activeManveProfilesRawValue = System.getProperty(PropertyKeys.ACTIVE_MAVEN_PROFILES);
         if (activeManveProfilesRawValue != null) {
@@ -104,17 +143,17 @@ public class MavenTestDependenciesDeploymentPackager implements DeploymentScenar
         }
     }
 
-    private boolean notAppBeanArtifactToIgnore(MavenResolvedArtifact artifact) {
+    private boolean notAppBeanArtifactToIgnore(ResolvedDependency artifact) {
         if (!includeAppBean) {
-            boolean isAppBeanArtifact = "com.ibm.jbatch.tck.appbean".equals(artifact.getCoordinate().getArtifactId());
+            boolean isAppBeanArtifact = "com.ibm.jbatch.tck.appbean".equals(artifact.getArtifactId());
             return !isAppBeanArtifact;
         } else {
             return true;
         }
     }
 
-    private boolean artifactShouldntBeIgnored(MavenResolvedArtifact artifact) {
-        String groupId = artifact.getCoordinate().getGroupId();
+    private boolean artifactShouldntBeIgnored(ResolvedDependency artifact) {
+        String groupId = artifact.getGroupId();
         final boolean groupMatchesAPrefix = groupPrefixesToIgnore.stream()
                 .anyMatch(prefix -> groupId.startsWith(prefix));
         return !groupMatchesAPrefix;
@@ -123,7 +162,7 @@ public class MavenTestDependenciesDeploymentPackager implements DeploymentScenar
     @Override
     public List<DeploymentDescription> generate(TestClass testClass) {
         final DeploymentDescription defaultDeployment = new DeploymentDescription("jbatch-test-package-all",
-                generateDeployment());
+                sharedDeployment ? getSharedDeployment() : generateDeployment());
         return Collections.singletonList(defaultDeployment);
     }
 
@@ -146,4 +185,9 @@ public class MavenTestDependenciesDeploymentPackager implements DeploymentScenar
         }
     }
 
+    private void initDependencyCache() {
+        dependencyCache = new ResolvedDependencyCache(Boolean.getBoolean(PropertyKeys.DEPENDENCY_CACHE),
+                System.getProperty(PropertyKeys.DEPENDENCY_CACHE_DIR));
+    }
+
 }
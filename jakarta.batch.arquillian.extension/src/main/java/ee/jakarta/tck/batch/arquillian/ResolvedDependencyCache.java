@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.tck.batch.arquillian;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Caches the list of artifacts resolved from a pom, keyed by a hash of the pom and the active Maven profiles. The
+ * list is always kept in memory, so the dependencies are resolved once per JVM rather than once per test class.
+ * <p>
+ * Optionally the list is also kept in a file on disk, so that it's shared by the forked JVMs of a build, and by later
+ * builds. A cached file is discarded if any of its files no longer exists. Only the pom itself is hashed, so a change
+ * in a parent pom or a newly deployed SNAPSHOT isn't noticed until the cache directory is removed, e.g. by
+ * {@code mvn clean}. That's why the file is only used when it's enabled explicitly.
+ */
+class ResolvedDependencyCache {
+
+    private static final Logger logger = Logger.getLogger(ResolvedDependencyCache.class.getName());
+
+    private static final String DEFAULT_CACHE_DIR = "target/jbatch-tck-dependency-cache";
+
+    private static final Map<String, List<ResolvedDependency>> memoryCache = new ConcurrentHashMap<>();
+
+    // null if the cache is kept in memory only
+    private final Path cacheDir;
+
+    /**
+     * @param persistent whether to keep the cache in a file on disk too
+     * @param cacheDir   the directory of the file on disk, or null for the default
+     */
+    ResolvedDependencyCache(boolean persistent, String cacheDir) {
+        this.cacheDir = persistent ? Paths.get(cacheDir != null ? cacheDir : DEFAULT_CACHE_DIR) : null;
+    }
+
+    /**
+     * @return the cached artifacts for the given pom and profiles, or those returned by the resolver, which are then cached
+     */
+    List<ResolvedDependency> get(String pomFile, String[] activeMavenProfiles, Supplier<List<ResolvedDependency>> resolver) {
+        String key = key(pomFile, activeMavenProfiles);
+        List<ResolvedDependency> dependencies = memoryCache.get(key);
+        if (dependencies != null) {
+            return dependencies;
+        }
+        if (cacheDir == null) {
+            dependencies = resolver.get();
+            memoryCache.put(key, dependencies);
+            return dependencies;
+        }
+        Path cacheFile = cacheDir.resolve("resolved-" + key + ".txt");
+        dependencies = read(cacheFile);
+        if (dependencies == null) {
+            dependencies = resolver.get();
+            write(cacheFile, dependencies);
+        } else {
+            logger.fine("Using dependencies of " + pomFile + " cached in " + cacheFile);
+        }
+        memoryCache.put(key, dependencies);
+        return dependencies;
+    }
+
+    private static String key(String pomFile, String[] activeMavenProfiles) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(Files.readAllBytes(Paths.get(pomFile)));
+            digest.update((byte) 0);
+            digest.update(String.join(",", activeMavenProfiles).getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Couldn't hash " + pomFile, e);
+        }
+    }
+
+    private static List<ResolvedDependency> read(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try {
+            List<ResolvedDependency> dependencies = new ArrayList<>();
+            for (String line : Files.readAllLines(cacheFile, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t", 4);
+                if (fields.length != 4 || !new File(fields[3]).isFile()) {
+                    logger.fine("Ignoring stale dependency cache " + cacheFile);
+                    return null;
+                }
+                dependencies.add(new ResolvedDependency(fields[0], fields[1], fields[2], new File(fields[3])));
+            }
+            return dependencies;
+        } catch (IOException e) {
+            logger.warning("Couldn't read dependency cache " + cacheFile + ": " + e);
+            return null;
+        }
+    }
+
+    private static void write(Path cacheFile, List<ResolvedDependency> dependencies) {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            // Write to a temporary file first, so that another JVM never reads a partly written cache
+            Path tempFile = Files.createTempFile(cacheFile.getParent(), "resolved-", ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (ResolvedDependency dependency : dependencies) {
+                    out.write(dependency.getGroupId() + "\t" + dependency.getArtifactId() + "\t" + dependency.getExtension()
+                            + "\t" + dependency.getFile().getAbsolutePath());
+                    out.newLine();
+                }
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warning("Couldn't write dependency cache " + cacheFile + ": " + e);
+        }
+    }
+
+    /**
+     * The parts of a resolved artifact needed to package it.
+     */
+    static class ResolvedDependency {
+
+        private final String groupId;
+        private final String artifactId;
+        private final String extension;
+        private final File file;
+
+        ResolvedDependency(String groupId, String artifactId, String extension, File file) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.extension = extension;
+            this.file = file;
+        }
+
+        String getGroupId() {
+            return groupId;
+        }
+
+        String getArtifactId() {
+            return artifactId;
+        }
+
+        String getExtension() {
+            return extension;
+        }
+
+        File getFile() {
+            return file;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.tck.batch.arquillian;
+
+import java.util.logging.Logger;
+import org.jboss.arquillian.container.spi.client.deployment.DeploymentScenario;
+import org.jboss.arquillian.container.spi.event.DeployManagedDeployments;
+import org.jboss.arquillian.container.spi.event.UnDeployManagedDeployments;
+import org.jboss.arquillian.core.api.Event;
+import org.jboss.arquillian.core.api.Instance;
+import org.jboss.arquillian.core.api.InstanceProducer;
+import org.jboss.arquillian.core.api.annotation.Inject;
+import org.jboss.arquillian.core.api.annotation.Observes;
+import org.jboss.arquillian.core.spi.EventContext;
+import org.jboss.arquillian.test.spi.annotation.ClassScoped;
+import org.jboss.arquillian.test.spi.context.ClassContext;
+import org.jboss.arquillian.test.spi.event.suite.AfterSuite;
+
+/**
+ * Deploys the test package once per suite run instead of once per test class, when the
+ * {@link MavenTestDependenciesDeploymentPackager.PropertyKeys#SHARED_DEPLOYMENT} system property is true.
+ * <p>
+ * The deployment scenario of the first test class is deployed as usual and kept. For every later test class, it
+ * replaces the scenario generated for that class before deployment, and the deployment itself is skipped, so
+ * that tests run against the application already deployed. Undeployment is skipped after each test class and
+ * done once, when the suite ends.
+ * <p>
+ * This works because every test class gets the same package, which holds all the TCK test classes.
+ *
+ * @see MavenTestDependenciesDeploymentPackager
+ */
+public class SharedDeploymentObserver {
+
+    private static final Logger logger = Logger.getLogger(SharedDeploymentObserver.class.getName());
+
+    @Inject
+    @ClassScoped
+    private InstanceProducer<DeploymentScenario> classDeploymentScenario;
+
+    @Inject
+    private Instance<ClassContext> classContext;
+
+    @Inject
+    private Event<UnDeployManagedDeployments> undeployEvent;
+
+    private DeploymentScenario sharedDeploymentScenario = null;
+
+    private Class<?> sharedDeploymentTestClass = null;
+
+    private boolean undeploying = false;
+
+    public void deployOnce(@Observes EventContext<DeployManagedDeployments> eventContext) {
+        if (sharedDeploymentScenario == null) {
+            eventContext.proceed();
+            // only share a deployment that succeeded, later test classes try again otherwise
+            sharedDeploymentScenario = classDeploymentScenario.get();
+            sharedDeploymentTestClass = classContext.get().getActiveId();
+            logger.fine("Deployed the shared test package for " + sharedDeploymentTestClass);
+        } else {
+            classDeploymentScenario.set(sharedDeploymentScenario);
+        }
+    }
+
+    public void undeployAtSuiteEnd(@Observes EventContext<UnDeployManagedDeployments> eventContext) {
+        if (undeploying) {
+            eventContext.proceed();
+        }
+    }
+
+    // precedence over the container controller, which stops the containers after the suite
+    public void undeploy(@Observes(precedence = 100) AfterSuite event) {
+        if (sharedDeploymentScenario == null) {
+            return;
+        }
+        ClassContext context = classContext.get();
+        context.activate(sharedDeploymentTestClass);
+        try {
+            classDeploymentScenario.set(sharedDeploymentScenario);
+            undeploying = true;
+            undeployEvent.fire(new UnDeployManagedDeployments());
+        } finally {
+            undeploying = false;
+            sharedDeploymentScenario = null;
+            context.deactivate();
+            context.destroy(sharedDeploymentTestClass);
+        }
+    }
+}
@@ -39,6 +39,19 @@ public class VehicleSelectionArchiveProcessor implements ApplicationArchiveProce
 
     @Override
     public void process(Archive<?> archive, TestClass arg1) {
+        DeploymentPackageType deploymentpackage
+                = DeploymentPackageType.fromArchive(archive);
+        String propertiesContent = propertiesToStringContent(getVehicleProperties(deploymentpackage));
+        deploymentpackage.getPackageBuilder(archive)
+                // store properties into a properties file
+                .addResource(new StringAsset(propertiesContent), PropertyKeys.VEHICLE_PROPERTIES_FILE_NAME)
+                .build();
+    }
+
+    /**
+     * @return the vehicle properties to store in a test deployment package of the given type
+     */
+    private static Properties getVehicleProperties(DeploymentPackageType deploymentPackageType) {
         Properties props = new Properties();
         String enabledVehicles = System.getProperty(PropertyKeys.ENABLED_VEHICLE);
         // if we have enabled vehicles, pass them and enable the vehicles feature. Otherwise all runs with defaults.
@@ -48,18 +61,15 @@ public class VehicleSelectionArchiveProcessor implements ApplicationArchiveProce
             final String customEjbVehicleName = System.getProperty(PropertyKeys.EJB_VEHICLE_JNDI_NAME);
             if (customEjbVehicleName != null) {
                 props.put(PropertyKeys.EJB_VEHICLE_JNDI_NAME, customEjbVehicleName);
+            } else if (deploymentPackageType == DeploymentPackageType.EAR) {
+                // the default name assumes the EJB vehicle is in a WAR
+                props.put(PropertyKeys.EJB_VEHICLE_JNDI_NAME, DeploymentPackageType.EAR_EJB_VEHICLE_JNDI_NAME);
             }
         }
-        String propertiesContent = propertiesToStringContent(props);
-        DeploymentPackageType deploymentpackage
-                = DeploymentPackageType.fromArchive(archive);
-        deploymentpackage.getPackageBuilder(archive)
-                // store properties into a properties file
-                .addResource(new StringAsset(propertiesContent), PropertyKeys.VEHICLE_PROPERTIES_FILE_NAME)
-                .build();
+        return props;
     }
 
-    private String propertiesToStringContent(Properties props) {
+    private static String propertiesToStringContent(Properties props) {
         try ( StringWriter propertiesWriter = new StringWriter()) {
             props.store(propertiesWriter, null);
             return propertiesWriter.toString();
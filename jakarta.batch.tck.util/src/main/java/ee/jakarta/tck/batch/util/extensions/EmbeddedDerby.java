@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.tck.batch.util.extensions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.logging.Logger;
+
+import javax.naming.NamingException;
+import javax.sql.DataSource;
+
+/**
+ * In-memory Derby database for the TCK application tables, bound into the {@link LocalInitialContextFactory} namespace,
+ * so that the database-backed tests can run in Java SE without a separately provisioned datasource.
+ * <p>
+ * Configured with system properties:
+ * <ul>
+ *  <li>{@value #ENABLED_PROPERTY} - <code>true</code> to create and bind the database
+ *  <li>{@value #URL_PROPERTY} - JDBC URL, by default <code>jdbc:derby:memory:orderDB;create=true</code>
+ *  <li>{@value #DDL_PROPERTY} - classpath resource run against the new database, by default the TCK's
+ *      <code>ddls/derby.ddl.jbatch-tck.sql</code>
+ *  <li>{@value #JNDI_NAMES_PROPERTY} - comma-separated names to bind the datasource to, by default <code>jdbc/orderDB</code>
+ * </ul>
+ * The Derby embedded driver must be on the classpath.
+ */
+public class EmbeddedDerby {
+
+    private final static Logger logger = Logger.getLogger(EmbeddedDerby.class.getName());
+
+    public static final String ENABLED_PROPERTY = "tck.embedded.derby";
+    public static final String URL_PROPERTY = "tck.embedded.derby.url";
+    public static final String DDL_PROPERTY = "tck.embedded.derby.ddl";
+    public static final String JNDI_NAMES_PROPERTY = "tck.embedded.derby.jndiNames";
+
+    private static boolean bound = false;
+
+    /**
+     * Creates the database and binds it, the first time only.
+     */
+    static synchronized void bindDataSources() throws NamingException {
+        if (bound) {
+            return;
+        }
+
+        String url = System.getProperty(URL_PROPERTY, "jdbc:derby:memory:orderDB;create=true");
+        String ddl = System.getProperty(DDL_PROPERTY, "ddls/derby.ddl.jbatch-tck.sql");
+        DataSource dataSource = new DriverManagerDataSource(url);
+        try {
+            runScript(dataSource, ddl);
+        } catch (SQLException | IOException e) {
+            NamingException ne = new NamingException("Could not create embedded Derby database " + url + " from " + ddl);
+            ne.setRootCause(e);
+            throw ne;
+        }
+
+        for (String name : System.getProperty(JNDI_NAMES_PROPERTY, "jdbc/orderDB").split(",")) {
+            LocalContext.bindIfAbsent(name.trim(), dataSource);
+        }
+        logger.info("Bound embedded Derby database " + url + " as " + System.getProperty(JNDI_NAMES_PROPERTY, "jdbc/orderDB"));
+        bound = true;
+    }
+
+    /**
+     * Runs the ';'-separated statements of a DDL script, ignoring failed DROPs of tables that don't exist yet.
+     */
+    private static void runScript(DataSource dataSource, String resource) throws SQLException, IOException {
+        InputStream in = EmbeddedDerby.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("DDL resource not found on classpath: " + resource);
+        }
+
+        StringBuilder script = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().startsWith("--")) {
+                    script.append(line).append('\n');
+                }
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : script.toString().split(";")) {
+                sql = sql.trim();
+                if (sql.isEmpty()) {
+                    continue;
+                }
+                try {
+                    statement.execute(sql);
+                } catch (SQLException e) {
+                    if (!sql.regionMatches(true, 0, "DROP", 0, 4)) {
+                        throw e;
+                    }
+                    logger.fine("Ignoring failed '" + sql + "': " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Minimal non-pooling DataSource over {@link DriverManager}.
+     */
+    static class DriverManagerDataSource implements DataSource {
+
+        private final String url;
+        private PrintWriter logWriter;
+        private int loginTimeout;
+
+        DriverManagerDataSource(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return DriverManager.getConnection(url);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return DriverManager.getConnection(url, username, password);
+        }
+
+        @Override
+        public PrintWriter getLogWriter() throws SQLException {
+            return logWriter;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) throws SQLException {
+            logWriter = out;
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) throws SQLException {
+            loginTimeout = seconds;
+        }
+
+        @Override
+        public int getLoginTimeout() throws SQLException {
+            return loginTimeout;
+        }
+
+        @Override
+        public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (iface.isInstance(this)) {
+                return iface.cast(this);
+            }
+            throw new SQLException("Not a wrapper for " + iface.getName());
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return iface.isInstance(this);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.tck.batch.util.extensions;
+
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.naming.Binding;
+import javax.naming.CompositeName;
+import javax.naming.Context;
+import javax.naming.Name;
+import javax.naming.NameAlreadyBoundException;
+import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
+import javax.naming.NameParser;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.OperationNotSupportedException;
+
+/**
+ * Flat, in-memory JNDI namespace created by {@link LocalInitialContextFactory}.  Names are plain strings such as
+ * <code>jdbc/orderDB</code>; subcontexts and listing are not supported.
+ */
+class LocalContext implements Context {
+
+    private static final Map<String, Object> bindings = new ConcurrentHashMap<String, Object>();
+
+    private final Hashtable<Object, Object> environment = new Hashtable<Object, Object>();
+
+    LocalContext(Hashtable<?, ?> environment) {
+        if (environment != null) {
+            this.environment.putAll(environment);
+        }
+    }
+
+    static void bindIfAbsent(String name, Object obj) {
+        bindings.putIfAbsent(name, obj);
+    }
+
+    @Override
+    public Object lookup(String name) throws NamingException {
+        Object obj = bindings.get(name);
+        if (obj == null) {
+            throw new NameNotFoundException(name);
+        }
+        return obj;
+    }
+
+    @Override
+    public Object lookup(Name name) throws NamingException {
+        return lookup(name.toString());
+    }
+
+    @Override
+    public void bind(String name, Object obj) throws NamingException {
+        if (bindings.putIfAbsent(name, obj) != null) {
+            throw new NameAlreadyBoundException(name);
+        }
+    }
+
+    @Override
+    public void bind(Name name, Object obj) throws NamingException {
+        bind(name.toString(), obj);
+    }
+
+    @Override
+    public void rebind(String name, Object obj) throws NamingException {
+        bindings.put(name, obj);
+    }
+
+    @Override
+    public void rebind(Name name, Object obj) throws NamingException {
+        rebind(name.toString(), obj);
+    }
+
+    @Override
+    public void unbind(String name) throws NamingException {
+        bindings.remove(name);
+    }
+
+    @Override
+    public void unbind(Name name) throws NamingException {
+        unbind(name.toString());
+    }
+
+    @Override
+    public void rename(String oldName, String newName) throws NamingException {
+        Object obj = lookup(oldName);
+        bind(newName, obj);
+        bindings.remove(oldName);
+    }
+
+    @Override
+    public void rename(Name oldName, Name newName) throws NamingException {
+        rename(oldName.toString(), newName.toString());
+    }
+
+    @Override
+    public NamingEnumeration<NameClassPair> list(String name) throws NamingException {
+        throw new OperationNotSupportedException("list");
+    }
+
+    @Override
+    public NamingEnumeration<NameClassPair> list(Name name) throws NamingException {
+        throw new OperationNotSupportedException("list");
+    }
+
+    @Override
+    public NamingEnumeration<Binding> listBindings(String name) throws NamingException {
+        throw new OperationNotSupportedException("listBindings");
+    }
+
+    @Override
+    public NamingEnumeration<Binding> listBindings(Name name) throws NamingException {
+        throw new OperationNotSupportedException("listBindings");
+    }
+
+    @Override
+    public void destroySubcontext(String name) throws NamingException {
+        throw new OperationNotSupportedException("destroySubcontext");
+    }
+
+    @Override
+    public void destroySubcontext(Name name) throws NamingException {
+        throw new OperationNotSupportedException("destroySubcontext");
+    }
+
+    @Override
+    public Context createSubcontext(String name) throws NamingException {
+        throw new OperationNotSupportedException("createSubcontext");
+    }
+
+    @Override
+    public Context createSubcontext(Name name) throws NamingException {
+        throw new OperationNotSupportedException("createSubcontext");
+    }
+
+    @Override
+    public Object lookupLink(String name) throws NamingException {
+        return lookup(name);
+    }
+
+    @Override
+    public Object lookupLink(Name name) throws NamingException {
+        return lookup(name);
+    }
+
+    @Override
+    public NameParser getNameParser(String name) throws NamingException {
+        return CompositeName::new;
+    }
+
+    @Override
+    public NameParser getNameParser(Name name) throws NamingException {
+        return CompositeName::new;
+    }
+
+    @Override
+    public String composeName(String name, String prefix) throws NamingException {
+        return prefix.isEmpty() ? name : prefix + "/" + name;
+    }
+
+    @Override
+    public Name composeName(Name name, Name prefix) throws NamingException {
+        return ((Name) prefix.clone()).addAll(name);
+    }
+
+    @Override
+    public Object addToEnvironment(String propName, Object propVal) throws NamingException {
+        return environment.put(propName, propVal);
+    }
+
+    @Override
+    public Object removeFromEnvironment(String propName) throws NamingException {
+        return environment.remove(propName);
+    }
+
+    @Override
+    public Hashtable<?, ?> getEnvironment() throws NamingException {
+        return (Hashtable<?, ?>) environment.clone();
+    }
+
+    @Override
+    public void close() throws NamingException {
+    }
+
+    @Override
+    public String getNameInNamespace() throws NamingException {
+        return "";
+    }
+}
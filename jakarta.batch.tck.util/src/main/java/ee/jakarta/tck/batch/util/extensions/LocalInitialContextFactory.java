@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package ee.jakarta.tck.batch.util.extensions;
+
+import java.util.Hashtable;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.spi.InitialContextFactory;
+
+/**
+ * Initial context factory for running database-backed tests outside an application server.  Set as system property
+ * <code>java.naming.factory.initial</code> so that lookups through <code>InitialContext</code> or {@link TSNamingContext}
+ * resolve against a single in-memory, flat namespace shared by the whole JVM.
+ * <p>
+ * If system property {@link EmbeddedDerby#ENABLED_PROPERTY} is <code>true</code>, the namespace starts with an in-memory
+ * Derby database bound (see {@link EmbeddedDerby}).
+ */
+public class LocalInitialContextFactory implements InitialContextFactory {
+
+    @Override
+    public Context getInitialContext(Hashtable<?, ?> environment) throws NamingException {
+        if (Boolean.getBoolean(EmbeddedDerby.ENABLED_PROPERTY)) {
+            EmbeddedDerby.bindDataSources();
+        }
+        return new LocalContext(environment);
+    }
+}